@@ -0,0 +1,51 @@
+package com.sample.system;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class BenchmarkApplication {
+
+    private static final List<String> QUIET_ARGS = List.of(
+            "--spring.jpa.show-sql=false",
+            "--logging.level.root=WARN",
+            "--logging.level.com.sample.system=WARN",
+            "--logging.level.org.hibernate.SQL=WARN",
+            "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"
+    );
+
+    private BenchmarkApplication() {
+    }
+
+    public static ConfigurableApplicationContext start(String databaseName, String... extraArgs) {
+        return run(WebApplicationType.NONE, QUIET_ARGS, databaseName, extraArgs);
+    }
+
+    // The application's own logback-spring.xml and logging levels instead of the quiet benchmark logback.xml,
+    // for benchmarks that measure logging itself
+    public static ConfigurableApplicationContext startWithLogging(String databaseName, String... extraArgs) {
+        return run(WebApplicationType.NONE, List.of("--logging.config=classpath:logback-spring.xml"),
+                databaseName, extraArgs);
+    }
+
+    // Embedded Tomcat on a random port, read it back from local.server.port
+    public static ConfigurableApplicationContext startServer(String databaseName, String... extraArgs) {
+        List<String> args = new ArrayList<>(List.of(extraArgs));
+        args.add("--server.port=0");
+        return run(WebApplicationType.SERVLET, QUIET_ARGS, databaseName, args.toArray(String[]::new));
+    }
+
+    private static ConfigurableApplicationContext run(WebApplicationType webApplicationType, List<String> baseArgs,
+                                                      String databaseName, String... extraArgs) {
+        List<String> args = new ArrayList<>(baseArgs);
+        args.add("--spring.datasource.url=jdbc:h2:mem:" + databaseName);
+        args.addAll(List.of(extraArgs));
+
+        return new SpringApplicationBuilder(SampleApplication.class)
+                .web(webApplicationType)
+                .run(args.toArray(String[]::new));
+    }
+}
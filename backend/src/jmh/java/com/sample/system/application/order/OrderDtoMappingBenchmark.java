@@ -0,0 +1,59 @@
+package com.sample.system.application.order;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.sample.system.common.json.MoneyJsonComponent;
+import com.sample.system.domain.common.Money;
+import com.sample.system.domain.order.Order;
+import com.sample.system.domain.order.OrderService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to OrderDto mapping and Jackson serialization of the result, configured like the
+ * application's ObjectMapper (JavaTimeModule, ISO dates, Money as a two-decimal number).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderDtoMappingBenchmark {
+
+    @Param({"1", "10", "100", "1000"})
+    private int itemCount;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .registerModule(new SimpleModule().addSerializer(Money.class, new MoneyJsonComponent.Serializer()))
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private Order order;
+    private OrderDto orderDto;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<OrderService.OrderItemData> itemDataList = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            itemDataList.add(new OrderService.OrderItemData(
+                    (long) i, "Product " + i, 1 + i % 5, Money.ofMinor(1250 + 100L * (i % 100))));
+        }
+        order = new OrderService().createOrder("ORD-BENCH", 100L, "John Doe", itemDataList);
+        orderDto = OrderDto.from(order);
+    }
+
+    @Benchmark
+    public OrderDto mapToDto() {
+        return OrderDto.from(order);
+    }
+
+    @Benchmark
+    public byte[] serializeDto() throws Exception {
+        return objectMapper.writeValueAsBytes(orderDto);
+    }
+}
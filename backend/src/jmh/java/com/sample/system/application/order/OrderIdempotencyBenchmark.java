@@ -0,0 +1,73 @@
+package com.sample.system.application.order;
+
+import com.sample.system.BenchmarkApplication;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cost of the Idempotency-Key check on POST /api/orders. "replay" answers a retry of an already created order,
+ * from the in-memory store or, with store=database (memory store sized 0), from the order_idempotency_key row.
+ * "createWithKey" against "createWithoutKey" is the overhead the check and the key row add to a first request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderIdempotencyBenchmark {
+
+    private static final String REPLAYED_KEY = "bench-replayed";
+
+    @Param({"memory", "database"})
+    private String store;
+
+    private ConfigurableApplicationContext context;
+    private OrderApplicationService orderApplicationService;
+    private OrderIdempotencyService orderIdempotencyService;
+    private final CreateOrderCommand command = CreateOrderCommand.builder()
+            .customerId(100L)
+            .customerName("Benchmark Customer")
+            .orderItems(List.of(
+                    CreateOrderCommand.OrderItemCommand.builder().productId(1L).quantity(1).build(),
+                    CreateOrderCommand.OrderItemCommand.builder().productId(2L).quantity(2).build()))
+            .build();
+    private final AtomicLong keys = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = "memory".equals(store)
+                ? BenchmarkApplication.start("idempotency_memory")
+                : BenchmarkApplication.start("idempotency_database", "--order.idempotency.maximum-size=0");
+        orderApplicationService = context.getBean(OrderApplicationService.class);
+        orderIdempotencyService = context.getBean(OrderIdempotencyService.class);
+
+        context.getBean(JdbcTemplate.class).update("UPDATE products SET stock = ?", Integer.MAX_VALUE);
+        orderIdempotencyService.createOrder(REPLAYED_KEY, command);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public IdempotentOrderResult replay() {
+        return orderIdempotencyService.createOrder(REPLAYED_KEY, command);
+    }
+
+    @Benchmark
+    public IdempotentOrderResult createWithKey() {
+        return orderIdempotencyService.createOrder("bench-" + keys.incrementAndGet(), command);
+    }
+
+    @Benchmark
+    public OrderDto createWithoutKey() {
+        return orderApplicationService.createOrder(command);
+    }
+}
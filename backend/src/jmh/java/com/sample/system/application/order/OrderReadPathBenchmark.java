@@ -0,0 +1,86 @@
+package com.sample.system.application.order;
+
+import com.sample.system.BenchmarkApplication;
+import com.sample.system.infrastructure.persistence.order.OrderRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares reading one order through managed entities (fetch join + OrderDto.from) with the
+ * constructor-projection path used by OrderApplicationService.getOrder. Run with -prof gc to see allocation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderReadPathBenchmark {
+
+    private static final int ORDER_COUNT = 200;
+
+    @Param({"1", "10", "50"})
+    private int itemCount;
+
+    private ConfigurableApplicationContext context;
+    private OrderRepository orderRepository;
+    private TransactionTemplate readOnlyTransaction;
+    private final List<Long> orderIds = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start("read_path_" + itemCount);
+
+        orderRepository = context.getBean(OrderRepository.class);
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+
+        OrderApplicationService orderApplicationService = context.getBean(OrderApplicationService.class);
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            orderIds.add(orderApplicationService.createOrder(command()).id());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public OrderDto entityPath() {
+        Long orderId = randomOrderId();
+        return readOnlyTransaction.execute(status -> OrderDto.from(orderRepository.findById(orderId).orElseThrow()));
+    }
+
+    @Benchmark
+    public OrderDto projectionPath() {
+        Long orderId = randomOrderId();
+        return readOnlyTransaction.execute(status -> OrderDto.fromLines(orderRepository.findLinesById(orderId)).get(0));
+    }
+
+    private Long randomOrderId() {
+        return orderIds.get(ThreadLocalRandom.current().nextInt(orderIds.size()));
+    }
+
+    private CreateOrderCommand command() {
+        List<CreateOrderCommand.OrderItemCommand> items = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            items.add(CreateOrderCommand.OrderItemCommand.builder()
+                    .productId(i + 1L)
+                    .quantity(1 + i % 3)
+                    .build());
+        }
+        return CreateOrderCommand.builder()
+                .customerId(100L)
+                .customerName("Benchmark Customer")
+                .orderItems(items)
+                .build();
+    }
+}
@@ -0,0 +1,105 @@
+package com.sample.system.application.order;
+
+import com.sample.system.BenchmarkApplication;
+import com.sample.system.common.exception.BusinessException;
+import com.sample.system.common.exception.ErrorCode;
+import com.sample.system.domain.order.Order;
+import com.sample.system.domain.order.OrderService;
+import com.sample.system.infrastructure.persistence.order.OrderRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Eight threads confirming orders. With sharedBy=1 every call targets a different order; with sharedBy=8
+ * consecutive calls hit the same order, so one wins and the rest must notice the new state.
+ * "repeatableRead" is the previous REPEATABLE_READ read-modify-write without retry, "optimistic" the
+ * versioned path with jittered retry. Outcome counters separate successes, business rejections
+ * (already confirmed) and failures that would have surfaced as 409/500.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 2)
+@Threads(8)
+@Fork(1)
+public class OrderTransitionContentionBenchmark {
+
+    private static final int ORDER_COUNT = 500_000;
+
+    @Param({"optimistic", "repeatableRead"})
+    private String strategy;
+
+    @Param({"1", "8"})
+    private int sharedBy;
+
+    private ConfigurableApplicationContext context;
+    private OrderApplicationService orderApplicationService;
+    private OrderService orderService;
+    private OrderRepository orderRepository;
+    private TransactionTemplate repeatableRead;
+    private final AtomicLong cursor = new AtomicLong();
+
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Outcomes {
+        public long succeeded;
+        public long rejected;
+        public long failed;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start("transition_" + strategy + "_" + sharedBy);
+        orderApplicationService = context.getBean(OrderApplicationService.class);
+        orderService = context.getBean(OrderService.class);
+        orderRepository = context.getBean(OrderRepository.class);
+
+        repeatableRead = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        repeatableRead.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+
+        context.getBean(JdbcTemplate.class).update("""
+                INSERT INTO orders (id, order_number, customer_id, customer_name, status, total_amount,
+                                    version, created_at, updated_at)
+                SELECT X, CONCAT('ORD-BENCH-', X), 100, 'John Doe', 'PENDING', 10.00, 0, NOW(), NOW()
+                FROM SYSTEM_RANGE(1, ?)
+                """, ORDER_COUNT);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void confirm(Outcomes outcomes) {
+        long orderId = 1 + cursor.getAndIncrement() / sharedBy;
+        try {
+            if ("optimistic".equals(strategy)) {
+                orderApplicationService.confirmOrder(orderId);
+            } else {
+                repeatableRead.executeWithoutResult(status -> {
+                    Order order = orderRepository.findById(orderId).orElseThrow();
+                    orderService.confirmOrder(order);
+                    orderRepository.save(order);
+                });
+            }
+            outcomes.succeeded++;
+        } catch (BusinessException e) {
+            if (e.getErrorCode() == ErrorCode.INVALID_ORDER_STATUS) {
+                outcomes.rejected++;
+            } else {
+                outcomes.failed++;
+            }
+        } catch (RuntimeException e) {
+            outcomes.failed++;
+        }
+    }
+}
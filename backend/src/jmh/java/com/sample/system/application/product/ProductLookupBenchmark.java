@@ -0,0 +1,72 @@
+package com.sample.system.application.product;
+
+import com.sample.system.BenchmarkApplication;
+import com.sample.system.domain.product.Product;
+import com.sample.system.infrastructure.persistence.product.ProductRepository;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * Resolving the products of one order when it is created. "perItem" issues one primary key lookup per line,
+ * "batched" the single IN query ProductCatalog falls back to on a miss, "cached" the catalog itself once warm.
+ * The seeded catalog holds ids 1..100, so itemCount=100 touches all of it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProductLookupBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int itemCount;
+
+    private ConfigurableApplicationContext context;
+    private ProductRepository productRepository;
+    private ProductCatalog productCatalog;
+    private TransactionTemplate readOnlyTransaction;
+    private List<Long> productIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start("product_lookup_" + itemCount);
+        productRepository = context.getBean(ProductRepository.class);
+        productCatalog = context.getBean(ProductCatalog.class);
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+        productIds = LongStream.rangeClosed(1, itemCount).boxed().toList();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void perItem(Blackhole blackhole) {
+        readOnlyTransaction.executeWithoutResult(status -> {
+            for (Long productId : productIds) {
+                Product product = productRepository.findById(productId).orElseThrow();
+                blackhole.consume(product.getPrice());
+            }
+        });
+    }
+
+    @Benchmark
+    public Object batched() {
+        return readOnlyTransaction.execute(status -> productRepository.findRowsByIdIn(productIds));
+    }
+
+    @Benchmark
+    public Object cached() {
+        return productCatalog.getAll(productIds);
+    }
+}
@@ -0,0 +1,77 @@
+package com.sample.system.common.logging;
+
+import com.sample.system.BenchmarkApplication;
+import com.sample.system.application.order.CreateOrderCommand;
+import com.sample.system.application.order.OrderApplicationService;
+import com.sample.system.application.order.OrderDto;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Order creation throughput under the logging of the default profile (synchronous console and file appenders,
+ * show-sql, SQL DEBUG) against the prod profile (AsyncAppender queues, compact pattern, slow queries only).
+ * Console output goes to a file in a temp directory so the comparison includes real write cost without
+ * flooding the JMH output; the log files land in the same directory.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Threads(8)
+@Fork(1)
+public class LoggingProfileBenchmark {
+
+    private static final int PRODUCT_COUNT = 100;
+
+    @Param({"default", "prod"})
+    private String profile;
+
+    private ConfigurableApplicationContext context;
+    private OrderApplicationService orderApplicationService;
+    private PrintStream originalOut;
+    private PrintStream console;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        Path logDirectory = Files.createTempDirectory("logging-profile-" + profile);
+        originalOut = System.out;
+        console = new PrintStream(new FileOutputStream(logDirectory.resolve("console.log").toFile()), true);
+        System.setOut(console);
+
+        context = BenchmarkApplication.startWithLogging("logging_profile_" + profile,
+                "--spring.profiles.active=" + profile,
+                "--logging.file.path=" + logDirectory,
+                "--rate-limit.enabled=false");
+        orderApplicationService = context.getBean(OrderApplicationService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+        System.setOut(originalOut);
+        console.close();
+    }
+
+    @Benchmark
+    public OrderDto createOrder() {
+        long productId = ThreadLocalRandom.current().nextLong(1, PRODUCT_COUNT + 1);
+        return orderApplicationService.createOrder(CreateOrderCommand.builder()
+                .customerId(100L)
+                .customerName("Benchmark Customer")
+                .orderItems(List.of(CreateOrderCommand.OrderItemCommand.builder()
+                        .productId(productId)
+                        .quantity(1)
+                        .build()))
+                .build());
+    }
+}
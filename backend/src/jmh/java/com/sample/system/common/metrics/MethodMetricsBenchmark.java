@@ -0,0 +1,113 @@
+package com.sample.system.common.metrics;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.boot.logging.LogLevel;
+import org.springframework.boot.logging.LoggingSystem;
+import org.springframework.util.function.SingletonSupplier;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-call cost of instrumenting an application-layer method. "legacyAspect" is the removed LoggingAspect
+ * (@Around, argument formatting, millisecond timestamps) with DEBUG off as in production, "metricsInterceptor"
+ * is MethodMetricsInterceptor, "bareProxy" is the same proxy with an interceptor that only proceeds, and
+ * "direct" calls the target without a proxy. Run with -prof gc: metricsInterceptor should allocate exactly
+ * what bareProxy does (the proxy's invocation object and boxed arguments).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(1)
+@Fork(1)
+public class MethodMetricsBenchmark {
+
+    private final PriceCalculator target = new PriceCalculator();
+    private PriceCalculator legacyAspect;
+    private PriceCalculator metricsInterceptor;
+    private PriceCalculator bareProxy;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        LoggingSystem.get(getClass().getClassLoader()).setLogLevel(LegacyLoggingAspect.class.getName(), LogLevel.INFO);
+
+        AspectJProxyFactory aspectFactory = new AspectJProxyFactory(target);
+        aspectFactory.setProxyTargetClass(true);
+        aspectFactory.addAspect(LegacyLoggingAspect.class);
+        legacyAspect = aspectFactory.getProxy();
+
+        ProxyFactory interceptorFactory = new ProxyFactory(target);
+        interceptorFactory.setProxyTargetClass(true);
+        interceptorFactory.addAdvice(new MethodMetricsInterceptor(SingletonSupplier.of(new MethodMetricsRegistry())));
+        metricsInterceptor = (PriceCalculator) interceptorFactory.getProxy();
+
+        ProxyFactory bareFactory = new ProxyFactory(target);
+        bareFactory.setProxyTargetClass(true);
+        bareFactory.addAdvice((MethodInterceptor) MethodInvocation::proceed);
+        bareProxy = (PriceCalculator) bareFactory.getProxy();
+    }
+
+    @Benchmark
+    public long direct() {
+        return target.lineTotal(1250L, 3);
+    }
+
+    @Benchmark
+    public long bareProxy() {
+        return bareProxy.lineTotal(1250L, 3);
+    }
+
+    @Benchmark
+    public long legacyAspect() {
+        return legacyAspect.lineTotal(1250L, 3);
+    }
+
+    @Benchmark
+    public long metricsInterceptor() {
+        return metricsInterceptor.lineTotal(1250L, 3);
+    }
+
+    public static class PriceCalculator {
+
+        public long lineTotal(long unitPriceMinorUnits, int quantity) {
+            return unitPriceMinorUnits * quantity;
+        }
+    }
+
+    @Aspect
+    public static class LegacyLoggingAspect {
+
+        private static final Logger log = LoggerFactory.getLogger(LegacyLoggingAspect.class);
+
+        @Around("execution(* com.sample.system.common.metrics.MethodMetricsBenchmark.PriceCalculator.*(..))")
+        public Object logMethodExecution(ProceedingJoinPoint joinPoint) throws Throwable {
+            String className = joinPoint.getTarget().getClass().getSimpleName();
+            String methodName = joinPoint.getSignature().getName();
+            Object[] args = joinPoint.getArgs();
+
+            log.debug("Executing {}.{}() with args: {}", className, methodName, Arrays.toString(args));
+
+            long startTime = System.currentTimeMillis();
+            try {
+                Object result = joinPoint.proceed();
+                log.debug("Completed {}.{}() in {}ms", className, methodName, System.currentTimeMillis() - startTime);
+                return result;
+            } catch (Exception e) {
+                log.error("Failed {}.{}() after {}ms: {}",
+                        className, methodName, System.currentTimeMillis() - startTime, e.getMessage());
+                throw e;
+            }
+        }
+    }
+}
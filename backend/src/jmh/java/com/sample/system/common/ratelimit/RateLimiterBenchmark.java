@@ -0,0 +1,54 @@
+package com.sample.system.common.ratelimit;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Admission cost RateLimitFilter adds to a request, with 64 threads hitting the limiter at once.
+ * "perCustomer" gives every thread its own bucket, "sharedCustomer" makes all threads CAS the same one,
+ * and "flooding" is a single customer far over its limit, where every call is a rejection.
+ * Reported as total throughput across threads, so the score stays comparable on machines with few cores.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(64)
+@Fork(1)
+public class RateLimiterBenchmark {
+
+    private final RateLimiter unlimited = new RateLimiter(1_000_000, 1e9, Duration.ofMinutes(10), 100_000);
+    private final RateLimiter strict = new RateLimiter(10, 1, Duration.ofMinutes(10), 100_000);
+    private final AtomicInteger threadIds = new AtomicInteger();
+    private final String sharedCustomerId = "0";
+
+    @State(Scope.Thread)
+    public static class Client {
+
+        private String customerId;
+
+        @Setup(Level.Trial)
+        public void setUp(RateLimiterBenchmark benchmark) {
+            customerId = String.valueOf(benchmark.threadIds.incrementAndGet());
+        }
+    }
+
+    @Benchmark
+    public long perCustomer(Client client) {
+        return unlimited.tryAcquire("customer:" + client.customerId);
+    }
+
+    @Benchmark
+    public long sharedCustomer() {
+        return unlimited.tryAcquire("customer:" + sharedCustomerId);
+    }
+
+    @Benchmark
+    public long flooding() {
+        return strict.tryAcquire("customer:" + sharedCustomerId);
+    }
+}
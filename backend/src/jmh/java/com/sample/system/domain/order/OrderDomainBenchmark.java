@@ -0,0 +1,52 @@
+package com.sample.system.domain.order;
+
+import com.sample.system.domain.common.Money;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Order aggregate hot paths without Spring or a database: building an order through OrderService
+ * and summing line totals.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderDomainBenchmark {
+
+    @Param({"1", "10", "100", "1000"})
+    private int itemCount;
+
+    private final OrderService orderService = new OrderService();
+    private List<OrderService.OrderItemData> itemDataList;
+    private Order order;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        itemDataList = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            itemDataList.add(new OrderService.OrderItemData(
+                    (long) i, "Product " + i, 1 + i % 5, Money.ofMinor(1250 + 100L * (i % 100))));
+        }
+        order = orderService.createOrder("ORD-BENCH", 100L, "John Doe", itemDataList);
+    }
+
+    @Benchmark
+    public Order createOrder() {
+        return orderService.createOrder("ORD-BENCH", 100L, "John Doe", itemDataList);
+    }
+
+    @Benchmark
+    public Money sumLineTotals() {
+        Money total = Money.ZERO;
+        for (OrderItem orderItem : order.getOrderItems()) {
+            total = total.plus(orderItem.calculateTotalPrice());
+        }
+        return total;
+    }
+}
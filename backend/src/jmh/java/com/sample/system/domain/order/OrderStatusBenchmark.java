@@ -0,0 +1,30 @@
+package com.sample.system.domain.order;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Every from/to pair of OrderStatus.canTransitionTo; one operation is a single check.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderStatusBenchmark {
+
+    private final OrderStatus[] statuses = OrderStatus.values();
+
+    @Benchmark
+    @OperationsPerInvocation(25)
+    public void canTransitionTo(Blackhole blackhole) {
+        for (OrderStatus from : statuses) {
+            for (OrderStatus to : statuses) {
+                blackhole.consume(from.canTransitionTo(to));
+            }
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.sample.system.domain.product;
+
+import com.sample.system.BenchmarkApplication;
+import com.sample.system.common.exception.BusinessException;
+import com.sample.system.common.exception.ErrorCode;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A thousand threads buying one unit of the same product. "conditional" is ProductService.reserveStock, a single
+ * guarded UPDATE per product; "rowLock" the classic SELECT ... FOR UPDATE followed by a write, which keeps the row
+ * locked across two round trips and makes every buyer queue behind it. Override the thread count with -t.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Threads(1000)
+@Fork(1)
+public class StockReservationBenchmark {
+
+    @Param({"conditional", "rowLock"})
+    private String strategy;
+
+    private ConfigurableApplicationContext context;
+    private ProductService productService;
+    private EntityManager entityManager;
+    private TransactionTemplate transactionTemplate;
+    private Long productId;
+
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Outcomes {
+        public long reserved;
+        public long failed;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start("stock_" + strategy);
+        productService = context.getBean(ProductService.class);
+        entityManager = context.getBean(EntityManager.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+
+        productId = transactionTemplate.execute(status -> {
+            Product product = new Product("Hot item", new BigDecimal("9.90"), Integer.MAX_VALUE);
+            entityManager.persist(product);
+            return product.getId();
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void buy(Outcomes outcomes) {
+        try {
+            if ("conditional".equals(strategy)) {
+                transactionTemplate.executeWithoutResult(status -> productService.reserveStock(Map.of(productId, 1)));
+            } else {
+                transactionTemplate.executeWithoutResult(status -> {
+                    Integer stock = entityManager.createQuery(
+                                    "SELECT p.stock FROM Product p WHERE p.id = :id", Integer.class)
+                            .setParameter("id", productId)
+                            .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                            .getSingleResult();
+                    if (stock < 1) {
+                        throw new BusinessException(ErrorCode.INSUFFICIENT_STOCK, productId);
+                    }
+                    entityManager.createQuery("UPDATE Product p SET p.stock = :stock WHERE p.id = :id")
+                            .setParameter("stock", stock - 1)
+                            .setParameter("id", productId)
+                            .executeUpdate();
+                });
+            }
+            outcomes.reserved++;
+        } catch (RuntimeException e) {
+            outcomes.failed++;
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.sample.system.infrastructure.persistence.order;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.sql.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Replays the statements Hibernate issues to persist one order with N lines under the two id strategies:
+ * IDENTITY (one INSERT round trip per row, generated key read back each time) and a pooled-lo sequence
+ * (one sequence call per allocation block, rows sent as JDBC batches).
+ * Runs against in-memory H2, where a round trip is cheap, so the gap is a lower bound for a networked database.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderInsertBenchmark {
+
+    private static final int ALLOCATION_SIZE = 50;
+    private static final int BATCH_SIZE = 50;
+    private static final BigDecimal UNIT_PRICE = new BigDecimal("12.50");
+
+    @Param({"1", "20", "200"})
+    private int itemCount;
+
+    private Connection connection;
+    private PooledLoIds orderIds;
+    private PooledLoIds itemIds;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:order_insert_" + System.nanoTime() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        connection.setAutoCommit(false);
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("""
+                    CREATE TABLE identity_orders (
+                        id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+                        order_number VARCHAR(255) NOT NULL,
+                        customer_id BIGINT NOT NULL,
+                        total_amount NUMERIC(10, 2) NOT NULL)""");
+            statement.execute("""
+                    CREATE TABLE identity_order_items (
+                        id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+                        order_id BIGINT NOT NULL,
+                        product_id BIGINT NOT NULL,
+                        quantity INT NOT NULL,
+                        unit_price NUMERIC(10, 2) NOT NULL)""");
+            statement.execute("""
+                    CREATE TABLE sequence_orders (
+                        id BIGINT PRIMARY KEY,
+                        order_number VARCHAR(255) NOT NULL,
+                        customer_id BIGINT NOT NULL,
+                        total_amount NUMERIC(10, 2) NOT NULL)""");
+            statement.execute("""
+                    CREATE TABLE sequence_order_items (
+                        id BIGINT PRIMARY KEY,
+                        order_id BIGINT NOT NULL,
+                        product_id BIGINT NOT NULL,
+                        quantity INT NOT NULL,
+                        unit_price NUMERIC(10, 2) NOT NULL)""");
+            statement.execute("CREATE SEQUENCE orders_seq START WITH 1 INCREMENT BY " + ALLOCATION_SIZE);
+            statement.execute("CREATE SEQUENCE order_items_seq START WITH 1 INCREMENT BY " + ALLOCATION_SIZE);
+        }
+        connection.commit();
+
+        orderIds = new PooledLoIds(connection, "orders_seq");
+        itemIds = new PooledLoIds(connection, "order_items_seq");
+    }
+
+    @TearDown(Level.Iteration)
+    public void truncate() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("TRUNCATE TABLE identity_order_items");
+            statement.execute("TRUNCATE TABLE identity_orders");
+            statement.execute("TRUNCATE TABLE sequence_order_items");
+            statement.execute("TRUNCATE TABLE sequence_orders");
+        }
+        connection.commit();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public void identityPerRowInserts(Blackhole blackhole) throws SQLException {
+        long orderId;
+        try (PreparedStatement insertOrder = connection.prepareStatement(
+                "INSERT INTO identity_orders (order_number, customer_id, total_amount) VALUES (?, ?, ?)",
+                Statement.RETURN_GENERATED_KEYS)) {
+            bindOrder(insertOrder, 1);
+            insertOrder.executeUpdate();
+            orderId = readGeneratedKey(insertOrder);
+        }
+
+        try (PreparedStatement insertItem = connection.prepareStatement(
+                "INSERT INTO identity_order_items (order_id, product_id, quantity, unit_price) VALUES (?, ?, ?, ?)",
+                Statement.RETURN_GENERATED_KEYS)) {
+            for (int i = 0; i < itemCount; i++) {
+                insertItem.setLong(1, orderId);
+                bindItem(insertItem, 2, i);
+                insertItem.executeUpdate();
+                blackhole.consume(readGeneratedKey(insertItem));
+            }
+        }
+
+        connection.commit();
+    }
+
+    @Benchmark
+    public void pooledSequenceBatchedInserts(Blackhole blackhole) throws SQLException {
+        long orderId = orderIds.next();
+        try (PreparedStatement insertOrder = connection.prepareStatement(
+                "INSERT INTO sequence_orders (id, order_number, customer_id, total_amount) VALUES (?, ?, ?, ?)")) {
+            insertOrder.setLong(1, orderId);
+            bindOrder(insertOrder, 2);
+            insertOrder.executeUpdate();
+        }
+
+        try (PreparedStatement insertItem = connection.prepareStatement(
+                "INSERT INTO sequence_order_items (id, order_id, product_id, quantity, unit_price) VALUES (?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < itemCount; i++) {
+                insertItem.setLong(1, itemIds.next());
+                insertItem.setLong(2, orderId);
+                bindItem(insertItem, 3, i);
+                insertItem.addBatch();
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    blackhole.consume(insertItem.executeBatch());
+                }
+            }
+            blackhole.consume(insertItem.executeBatch());
+        }
+
+        connection.commit();
+    }
+
+    private void bindOrder(PreparedStatement statement, int firstIndex) throws SQLException {
+        statement.setString(firstIndex, "ORD-BENCH");
+        statement.setLong(firstIndex + 1, 100L);
+        statement.setBigDecimal(firstIndex + 2, UNIT_PRICE.multiply(BigDecimal.valueOf(itemCount)));
+    }
+
+    private void bindItem(PreparedStatement statement, int firstIndex, int line) throws SQLException {
+        statement.setLong(firstIndex, line + 1L);
+        statement.setInt(firstIndex + 1, 1 + line % 5);
+        statement.setBigDecimal(firstIndex + 2, UNIT_PRICE);
+    }
+
+    private long readGeneratedKey(PreparedStatement statement) throws SQLException {
+        try (ResultSet keys = statement.getGeneratedKeys()) {
+            keys.next();
+            return keys.getLong(1);
+        }
+    }
+
+    private static final class PooledLoIds {
+
+        private final Connection connection;
+        private final String sequenceName;
+        private long next;
+        private long upperBound;
+
+        private PooledLoIds(Connection connection, String sequenceName) {
+            this.connection = connection;
+            this.sequenceName = sequenceName;
+        }
+
+        private long next() throws SQLException {
+            if (next == upperBound) {
+                try (Statement statement = connection.createStatement();
+                     ResultSet resultSet = statement.executeQuery("SELECT NEXT VALUE FOR " + sequenceName)) {
+                    resultSet.next();
+                    next = resultSet.getLong(1);
+                    upperBound = next + ALLOCATION_SIZE;
+                }
+            }
+            return next++;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.sample.system.presentation.order;
+
+import com.sample.system.BenchmarkApplication;
+import com.sample.system.application.order.CreateOrderCommand;
+import com.sample.system.application.order.OrderApplicationService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+/**
+ * Serving bursts of concurrent HTTP requests from the embedded Tomcat on platform threads (default pool of 200)
+ * against spring.threads.virtual.enabled=true. One operation sends "concurrency" requests at once and waits for
+ * all of them. "orderById" is mostly served from OrderCache, "searchOrders" runs a query per request,
+ * so it queues on the connection pool in both modes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class RequestThreadingLoadBenchmark {
+
+    private static final int ORDER_COUNT = 100;
+    private static final long CUSTOMER_ID = 100L;
+
+    @Param({"platform", "virtual"})
+    private String threads;
+
+    @Param({"1000"})
+    private int concurrency;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private ExecutorService clients;
+    private String baseUrl;
+    private final List<Long> orderIds = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.startServer("request_threading_" + threads,
+                "--spring.threads.virtual.enabled=" + threads.equals("virtual"),
+                "--rate-limit.enabled=false");
+        baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+
+        OrderApplicationService orderApplicationService = context.getBean(OrderApplicationService.class);
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            orderIds.add(orderApplicationService.createOrder(command()).id());
+        }
+
+        // The client side always uses virtual threads, so it can hold every request open at once in both modes
+        clients = Executors.newVirtualThreadPerTaskExecutor();
+        httpClient = HttpClient.newBuilder().executor(clients).build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        clients.shutdownNow();
+        context.close();
+    }
+
+    @Benchmark
+    public int orderById() throws Exception {
+        return burst(i -> "/api/orders/" + orderIds.get(i % orderIds.size()));
+    }
+
+    @Benchmark
+    public int searchOrders() throws Exception {
+        return burst(i -> "/api/orders?customerId=" + CUSTOMER_ID + "&size=20");
+    }
+
+    private int burst(IntFunction<String> path) throws Exception {
+        List<Future<Integer>> responses = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path.apply(i))).GET().build();
+            responses.add(clients.submit(() ->
+                    httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode()));
+        }
+
+        int ok = 0;
+        for (Future<Integer> response : responses) {
+            if (response.get() == 200) {
+                ok++;
+            }
+        }
+        if (ok != concurrency) {
+            throw new IllegalStateException((concurrency - ok) + " of " + concurrency + " requests failed");
+        }
+        return ok;
+    }
+
+    private CreateOrderCommand command() {
+        return CreateOrderCommand.builder()
+                .customerId(CUSTOMER_ID)
+                .customerName("Load Test")
+                .orderItems(List.of(CreateOrderCommand.OrderItemCommand.builder()
+                        .productId(1L)
+                        .quantity(1)
+                        .build()))
+                .build();
+    }
+}
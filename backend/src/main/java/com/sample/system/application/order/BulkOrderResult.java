@@ -0,0 +1,33 @@
+package com.sample.system.application.order;
+
+import com.sample.system.common.exception.ErrorCode;
+import com.sample.system.domain.order.Order;
+import lombok.Builder;
+
+@Builder
+public record BulkOrderResult(
+        int index,
+        boolean success,
+        Long orderId,
+        String orderNumber,
+        String errorCode,
+        String message
+) {
+    public static BulkOrderResult created(int index, Order order) {
+        return BulkOrderResult.builder()
+                .index(index)
+                .success(true)
+                .orderId(order.getId())
+                .orderNumber(order.getOrderNumber())
+                .build();
+    }
+
+    public static BulkOrderResult failed(int index, ErrorCode errorCode, String message) {
+        return BulkOrderResult.builder()
+                .index(index)
+                .success(false)
+                .errorCode(errorCode.getCode())
+                .message(message != null ? message : errorCode.getMessage())
+                .build();
+    }
+}
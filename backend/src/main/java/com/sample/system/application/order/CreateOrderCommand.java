@@ -4,7 +4,6 @@ import jakarta.validation.Valid;
 import jakarta.validation.constraints.*;
 import lombok.Builder;
 
-import java.math.BigDecimal;
 import java.util.List;
 
 @Builder
@@ -28,16 +27,8 @@ public record CreateOrderCommand(
             @Positive(message = "Product ID must be positive")
             Long productId,
 
-            @NotBlank(message = "Product name is required")
-            @Size(max = 200, message = "Product name must not exceed 200 characters")
-            String productName,
-
             @NotNull(message = "Quantity is required")
             @Positive(message = "Quantity must be positive")
-            Integer quantity,
-
-            @NotNull(message = "Unit price is required")
-            @DecimalMin(value = "0.01", message = "Unit price must be greater than 0")
-            BigDecimal unitPrice
+            Integer quantity
     ) {}
 }
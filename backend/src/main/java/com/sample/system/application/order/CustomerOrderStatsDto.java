@@ -0,0 +1,28 @@
+package com.sample.system.application.order;
+
+import com.sample.system.domain.common.Money;
+import com.sample.system.infrastructure.persistence.order.CustomerOrderStats;
+import lombok.Builder;
+
+@Builder
+public record CustomerOrderStatsDto(
+        Long customerId,
+        long orderCount,
+        Money lifetimeSpend
+) {
+    public static CustomerOrderStatsDto from(CustomerOrderStats stats) {
+        return CustomerOrderStatsDto.builder()
+                .customerId(stats.getCustomerId())
+                .orderCount(stats.getOrderCount())
+                .lifetimeSpend(stats.getLifetimeSpend())
+                .build();
+    }
+
+    public static CustomerOrderStatsDto empty(Long customerId) {
+        return CustomerOrderStatsDto.builder()
+                .customerId(customerId)
+                .orderCount(0)
+                .lifetimeSpend(Money.ZERO)
+                .build();
+    }
+}
@@ -0,0 +1,6 @@
+package com.sample.system.application.order;
+
+public record IdempotentOrderResult(
+        OrderDto order,
+        boolean replayed
+) {}
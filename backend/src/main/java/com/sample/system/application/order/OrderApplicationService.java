@@ -1,18 +1,51 @@
 package com.sample.system.application.order;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sample.system.application.product.ProductCatalog;
+import com.sample.system.application.product.ProductDto;
 import com.sample.system.common.exception.BusinessException;
 import com.sample.system.common.exception.ErrorCode;
 import com.sample.system.domain.order.Order;
+import com.sample.system.domain.order.OrderEvent;
+import com.sample.system.domain.order.OrderNumberGenerator;
 import com.sample.system.domain.order.OrderService;
+import com.sample.system.domain.order.OrderStatus;
+import com.sample.system.domain.product.ProductService;
+import com.sample.system.infrastructure.persistence.order.OrderExportReader;
+import com.sample.system.infrastructure.persistence.order.OrderLineRow;
 import com.sample.system.infrastructure.persistence.order.OrderRepository;
+import com.sample.system.infrastructure.persistence.order.OrderStatusRow;
+import com.sample.system.infrastructure.persistence.order.OrderSummary;
+import com.sample.system.infrastructure.persistence.order.OrderSummaryRepository;
+import com.sample.system.infrastructure.persistence.order.OrderTransitionRow;
+import com.sample.system.infrastructure.persistence.order.ProductQuantityRow;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.OutputStream;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.UUID;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -21,91 +54,308 @@ import java.util.stream.Collectors;
 public class OrderApplicationService {
 
     private final OrderService orderService;
+    private final ProductService productService;
+    private final ProductCatalog productCatalog;
+    private final OrderNumberGenerator orderNumberGenerator;
     private final OrderRepository orderRepository;
+    private final OrderSummaryRepository orderSummaryRepository;
+    private final OrderExportReader orderExportReader;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final OrderCache orderCache;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${order.bulk.chunk-size:100}")
+    private int bulkChunkSize = 100;
+
+    @Value("${order.transition.max-attempts:3}")
+    private int transitionMaxAttempts = 3;
+
+    @Value("${order.transition.retry-backoff:20ms}")
+    private Duration transitionRetryBackoff = Duration.ofMillis(20);
+
+    @Value("${order.transition.batch-size:1000}")
+    private int transitionBatchSize = 1000;
 
-    @Transactional(isolation = Isolation.READ_COMMITTED)
     public OrderDto createOrder(CreateOrderCommand command) {
-        String orderNumber = generateOrderNumber();
+        return createOrder(command, created -> {
+        });
+    }
 
-        List<OrderService.OrderItemData> itemDataList = command.orderItems().stream()
-                .map(item -> new OrderService.OrderItemData(
-                        item.productId(),
-                        item.productName(),
-                        item.quantity(),
-                        item.unitPrice()
-                ))
-                .collect(Collectors.toList());
+    public OrderDto createOrder(CreateOrderCommand command, Consumer<OrderDto> inTransaction) {
+        Order order = buildOrder(command);
+        String reservationId = reserveStock(order.quantitiesByProduct());
 
-        Order order = orderService.createOrder(
-                orderNumber,
-                command.customerId(),
-                command.customerName(),
-                itemDataList
-        );
+        try {
+            return transactionTemplate.execute(status -> {
+                confirmReservation(reservationId);
+                Order savedOrder = orderRepository.save(order);
+                eventPublisher.publishEvent(OrderEvent.created(savedOrder));
+
+                log.info("Order created successfully: id={}, orderNumber={}",
+                        savedOrder.getId(), savedOrder.getOrderNumber());
+
+                OrderDto created = cacheAfterCommit(savedOrder);
+                inTransaction.accept(created);
+                return created;
+            });
+        } catch (RuntimeException e) {
+            releaseReservation(reservationId);
+            throw e;
+        }
+    }
 
-        Order savedOrder = orderRepository.save(order);
+    public List<BulkOrderResult> createOrders(List<CreateOrderCommand> commands) {
+        BulkOrderResult[] results = new BulkOrderResult[commands.size()];
+        String[] reservations = new String[commands.size()];
+        List<Integer> validIndexes = new ArrayList<>(commands.size());
 
-        log.info("Order created successfully: id={}, orderNumber={}",
-                savedOrder.getId(), savedOrder.getOrderNumber());
+        for (int i = 0; i < commands.size(); i++) {
+            Set<ConstraintViolation<CreateOrderCommand>> violations = validator.validate(commands.get(i));
+            if (violations.isEmpty()) {
+                validIndexes.add(i);
+            } else {
+                results[i] = BulkOrderResult.failed(i, ErrorCode.VALIDATION_ERROR, describe(violations));
+            }
+        }
 
-        return OrderDto.from(savedOrder);
+        int chunkSize = Math.max(1, bulkChunkSize);
+        for (int from = 0; from < validIndexes.size(); from += chunkSize) {
+            List<Integer> chunk = reserveChunk(commands,
+                    validIndexes.subList(from, Math.min(from + chunkSize, validIndexes.size())), reservations, results);
+            if (chunk.isEmpty()) {
+                continue;
+            }
+            try {
+                List<BulkOrderResult> chunkResults = transactionTemplate.execute(
+                        status -> persistChunk(commands, chunk, reservations));
+                chunkResults.forEach(result -> settle(result, reservations, results));
+            } catch (RuntimeException e) {
+                log.warn("Bulk order chunk failed, retrying orders one by one: size={}", chunk.size(), e);
+                for (Integer index : chunk) {
+                    settle(persistSingle(commands, index, reservations), reservations, results);
+                }
+            }
+        }
+
+        long created = Arrays.stream(results).filter(BulkOrderResult::success).count();
+        log.info("Bulk orders processed: requested={}, created={}, failed={}",
+                commands.size(), created, commands.size() - created);
+
+        return Arrays.asList(results);
     }
 
-    @Transactional(readOnly = true)
     public OrderDto getOrder(Long orderId) {
-        Order order = orderRepository.findById(orderId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.ORDER_NOT_FOUND));
+        return orderCache.get(orderId).orElseGet(() -> loadOrder(orderId));
+    }
+
+    @Transactional(readOnly = true)
+    public OrderPage searchOrders(OrderQuery.SearchCriteria criteria) {
+        OrderCursor cursor = OrderCursor.decode(criteria.cursor());
+
+        List<OrderSummary> summaries = orderSummaryRepository.searchPage(
+                criteria.customerId(),
+                criteria.status(),
+                criteria.startDate(),
+                criteria.endDate(),
+                cursor != null ? cursor.createdAt() : null,
+                cursor != null ? cursor.id() : null,
+                PageRequest.ofSize(criteria.size() + 1)
+        );
 
-        return OrderDto.from(order);
+        if (summaries.isEmpty()) {
+            return OrderPage.empty();
+        }
+
+        boolean hasNext = summaries.size() > criteria.size();
+        List<OrderSummary> page = hasNext ? summaries.subList(0, criteria.size()) : summaries;
+
+        OrderSummary last = page.get(page.size() - 1);
+        String nextCursor = hasNext
+                ? new OrderCursor(last.getCreatedAt(), last.getOrderId()).encode()
+                : null;
+
+        return new OrderPage(
+                page.stream()
+                        .map(OrderSummaryDto::from)
+                        .collect(Collectors.toList()),
+                nextCursor
+        );
     }
 
     @Transactional(readOnly = true)
-    public List<OrderDto> searchOrders(OrderQuery.SearchCriteria criteria) {
-        List<Order> orders = orderRepository.findAllByCustomerId(criteria.customerId());
+    public long exportOrders(OrderQuery.ExportCriteria criteria, OrderExportFormat format, OutputStream out) {
+        try (OrderExportWriter writer = OrderExportWriter.create(format, out, objectMapper)) {
+            long rowCount = orderExportReader.scan(
+                    criteria.customerId(),
+                    criteria.status(),
+                    criteria.startDate(),
+                    criteria.endDate(),
+                    writer::accept
+            );
 
-        return orders.stream()
-                .map(OrderDto::from)
-                .collect(Collectors.toList());
+            log.info("Orders exported: format={}, rows={}", format, rowCount);
+            return rowCount;
+        }
     }
 
-    @Transactional(isolation = Isolation.REPEATABLE_READ)
     public OrderDto confirmOrder(Long orderId) {
-        Order order = findOrderById(orderId);
+        return transition(orderId, orderService::confirmOrder);
+    }
 
-        orderService.confirmOrder(order);
-        Order savedOrder = orderRepository.save(order);
+    public OrderDto cancelOrder(Long orderId) {
+        return transition(orderId, order -> {
+            orderService.cancelOrder(order);
+            productService.releaseStock(order.quantitiesByProduct());
+        });
+    }
 
-        return OrderDto.from(savedOrder);
+    public OrderDto shipOrder(Long orderId) {
+        return transition(orderId, orderService::shipOrder);
     }
 
-    @Transactional(isolation = Isolation.REPEATABLE_READ)
-    public OrderDto cancelOrder(Long orderId) {
-        Order order = findOrderById(orderId);
+    public OrderDto deliverOrder(Long orderId) {
+        return transition(orderId, orderService::deliverOrder);
+    }
+
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public OrderTransitionResult transitionOrders(OrderStatus targetStatus, List<Long> orderIds) {
+        List<Long> ids = new ArrayList<>(new LinkedHashSet<>(orderIds));
+        Set<OrderStatus> sources = targetStatus.sourceStatuses();
+        // Microsecond precision so the marker survives the round trip through the timestamp column
+        LocalDateTime marker = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
 
-        orderService.cancelOrder(order);
-        Order savedOrder = orderRepository.save(order);
+        Map<Long, OrderEvent> moved = new HashMap<>(ids.size());
+        int batchSize = Math.max(1, transitionBatchSize);
+        for (int from = 0; from < ids.size(); from += batchSize) {
+            List<Long> batch = ids.subList(from, Math.min(from + batchSize, ids.size()));
+            // One UPDATE per legal source keeps the previous status of every moved order known for its event
+            for (OrderStatus source : sources) {
+                if (orderRepository.transitionStatus(batch, source, targetStatus, marker) > 0) {
+                    // Rows carrying this call's marker are exactly the ones the guarded UPDATEs moved
+                    for (OrderTransitionRow row : orderRepository.findTransitionedAt(batch, targetStatus, marker)) {
+                        moved.putIfAbsent(row.id(), OrderEvent.statusChanged(
+                                row.id(), row.customerId(), row.totalAmount(), source, targetStatus, marker));
+                    }
+                }
+            }
+        }
 
-        return OrderDto.from(savedOrder);
+        List<Long> transitioned = new ArrayList<>(moved.size());
+        List<Long> rejectedIds = new ArrayList<>(ids.size() - moved.size());
+        for (Long id : ids) {
+            OrderEvent event = moved.get(id);
+            if (event != null) {
+                transitioned.add(id);
+                eventPublisher.publishEvent(event);
+                orderCache.invalidateAfterCommit(id, marker);
+            } else {
+                rejectedIds.add(id);
+            }
+        }
+
+        if (targetStatus == OrderStatus.CANCELLED && !transitioned.isEmpty()) {
+            productService.releaseStock(cancelledQuantities(transitioned, batchSize));
+        }
+
+        log.info("Bulk order transition processed: target={}, requested={}, transitioned={}, rejected={}",
+                targetStatus, ids.size(), transitioned.size(), rejectedIds.size());
+
+        return OrderTransitionResult.builder()
+                .targetStatus(targetStatus)
+                .transitioned(transitioned)
+                .rejected(describeRejections(rejectedIds, batchSize))
+                .build();
     }
 
-    @Transactional(isolation = Isolation.REPEATABLE_READ)
-    public OrderDto shipOrder(Long orderId) {
-        Order order = findOrderById(orderId);
+    private Map<Long, Integer> cancelledQuantities(List<Long> orderIds, int batchSize) {
+        // Summed per product across all cancelled orders, so every product row is touched once
+        Map<Long, Integer> quantities = new TreeMap<>();
+        for (int from = 0; from < orderIds.size(); from += batchSize) {
+            List<Long> batch = orderIds.subList(from, Math.min(from + batchSize, orderIds.size()));
+            for (ProductQuantityRow row : orderRepository.sumQuantitiesByProduct(batch)) {
+                quantities.merge(row.productId(), Math.toIntExact(row.quantity()), Math::addExact);
+            }
+        }
+        return quantities;
+    }
 
-        orderService.shipOrder(order);
-        Order savedOrder = orderRepository.save(order);
+    private List<OrderTransitionResult.Rejection> describeRejections(List<Long> rejectedIds, int batchSize) {
+        Map<Long, OrderStatus> currentStatuses = new HashMap<>(rejectedIds.size());
+        for (int from = 0; from < rejectedIds.size(); from += batchSize) {
+            List<Long> batch = rejectedIds.subList(from, Math.min(from + batchSize, rejectedIds.size()));
+            for (OrderStatusRow row : orderRepository.findStatusesByIdIn(batch)) {
+                currentStatuses.put(row.id(), row.status());
+            }
+        }
 
-        return OrderDto.from(savedOrder);
+        return rejectedIds.stream()
+                .map(id -> {
+                    OrderStatus current = currentStatuses.get(id);
+                    return OrderTransitionResult.Rejection.builder()
+                            .orderId(id)
+                            .currentStatus(current)
+                            .errorCode(current == null
+                                    ? ErrorCode.ORDER_NOT_FOUND.getCode()
+                                    : ErrorCode.INVALID_ORDER_STATUS.getCode())
+                            .build();
+                })
+                .collect(Collectors.toList());
     }
 
-    @Transactional(isolation = Isolation.REPEATABLE_READ)
-    public OrderDto deliverOrder(Long orderId) {
-        Order order = findOrderById(orderId);
+    private OrderDto transition(Long orderId, Consumer<Order> action) {
+        int maxAttempts = Math.max(1, transitionMaxAttempts);
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> {
+                    Order order = findOrderById(orderId);
+                    OrderStatus previousStatus = order.getStatus();
+                    action.accept(order);
+                    Order savedOrder = orderRepository.save(order);
+                    eventPublisher.publishEvent(OrderEvent.statusChanged(
+                            savedOrder.getId(), savedOrder.getCustomerId(), savedOrder.getTotalAmount(),
+                            previousStatus, savedOrder.getStatus(), savedOrder.getUpdatedAt()));
+                    return cacheAfterCommit(savedOrder);
+                });
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= maxAttempts) {
+                    log.warn("Order transition still conflicting, giving up: orderId={}, attempts={}",
+                            orderId, attempt);
+                    throw new BusinessException(ErrorCode.CONCURRENT_MODIFICATION, e);
+                }
+                log.debug("Order transition conflicted, retrying: orderId={}, attempt={}", orderId, attempt);
+                backOff(attempt);
+            }
+        }
+    }
+
+    private void backOff(int attempt) {
+        // Full jitter over an exponentially growing window spreads retries of colliding writers apart
+        long windowMillis = Math.max(1, transitionRetryBackoff.toMillis()) << Math.min(attempt - 1, 10);
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(windowMillis + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.CONCURRENT_MODIFICATION, e);
+        }
+    }
 
-        orderService.deliverOrder(order);
-        Order savedOrder = orderRepository.save(order);
+    private OrderDto loadOrder(Long orderId) {
+        List<OrderLineRow> lines = orderRepository.findLinesById(orderId);
+        if (lines.isEmpty()) {
+            throw new BusinessException(ErrorCode.ORDER_NOT_FOUND);
+        }
 
-        return OrderDto.from(savedOrder);
+        OrderDto order = OrderDto.fromLines(lines).get(0);
+        orderCache.put(order);
+        return order;
+    }
+
+    private OrderDto cacheAfterCommit(Order savedOrder) {
+        OrderDto order = OrderDto.from(savedOrder);
+        orderCache.putAfterCommit(order);
+        return order;
     }
 
     private Order findOrderById(Long orderId) {
@@ -113,7 +363,128 @@ public class OrderApplicationService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.ORDER_NOT_FOUND));
     }
 
-    private String generateOrderNumber() {
-        return "ORD-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
+    private Order buildOrder(CreateOrderCommand command) {
+        Map<Long, ProductDto> products = productCatalog.getAll(command.orderItems().stream()
+                .map(CreateOrderCommand.OrderItemCommand::productId)
+                .collect(Collectors.toSet()));
+
+        List<OrderService.OrderItemData> itemDataList = command.orderItems().stream()
+                .map(item -> {
+                    ProductDto product = products.get(item.productId());
+                    if (product == null) {
+                        throw new BusinessException(ErrorCode.PRODUCT_NOT_FOUND, item.productId());
+                    }
+                    return new OrderService.OrderItemData(
+                            item.productId(),
+                            product.name(),
+                            item.quantity(),
+                            product.price()
+                    );
+                })
+                .collect(Collectors.toList());
+
+        return orderService.createOrder(
+                orderNumberGenerator.nextOrderNumber(),
+                command.customerId(),
+                command.customerName(),
+                itemDataList
+        );
+    }
+
+    private String reserveStock(Map<Long, Integer> quantities) {
+        // A transaction of its own, so stock rows stay locked for the UPDATEs only and never for the order insert
+        return transactionTemplate.execute(status -> productService.reserveStock(quantities));
+    }
+
+    private void confirmReservation(String reservationId) {
+        // Committed with the order, so a crash in between leaves the reservation for StockReservationSweeper
+        if (!productService.confirmReservation(reservationId)) {
+            throw new BusinessException(ErrorCode.STOCK_RESERVATION_EXPIRED);
+        }
+    }
+
+    private void releaseReservation(String reservationId) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> productService.releaseReservation(reservationId));
+        } catch (RuntimeException e) {
+            log.error("Stock release failed, left to the reservation sweeper: reservationId={}", reservationId, e);
+        }
+    }
+
+    private List<Integer> reserveChunk(List<CreateOrderCommand> commands, List<Integer> chunk,
+                                       String[] reservations, BulkOrderResult[] results) {
+        List<Integer> reserved = new ArrayList<>(chunk.size());
+        for (Integer index : chunk) {
+            try {
+                reservations[index] = reserveStock(quantitiesOf(commands.get(index)));
+                reserved.add(index);
+            } catch (BusinessException e) {
+                results[index] = BulkOrderResult.failed(index, e.getErrorCode(), null);
+            } catch (RuntimeException e) {
+                log.warn("Bulk order stock reservation failed: index={}", index, e);
+                results[index] = BulkOrderResult.failed(index, ErrorCode.DATABASE_ERROR, null);
+            }
+        }
+        return reserved;
+    }
+
+    private void settle(BulkOrderResult result, String[] reservations, BulkOrderResult[] results) {
+        results[result.index()] = result;
+        if (!result.success()) {
+            releaseReservation(reservations[result.index()]);
+        }
+    }
+
+    private Map<Long, Integer> quantitiesOf(CreateOrderCommand command) {
+        return command.orderItems().stream()
+                .collect(Collectors.toMap(
+                        CreateOrderCommand.OrderItemCommand::productId,
+                        CreateOrderCommand.OrderItemCommand::quantity,
+                        Integer::sum,
+                        TreeMap::new
+                ));
+    }
+
+    private List<BulkOrderResult> persistChunk(List<CreateOrderCommand> commands, List<Integer> chunk,
+                                               String[] reservations) {
+        List<BulkOrderResult> chunkResults = new ArrayList<>(chunk.size());
+        for (Integer index : chunk) {
+            Order order;
+            try {
+                order = buildOrder(commands.get(index));
+            } catch (BusinessException e) {
+                chunkResults.add(BulkOrderResult.failed(index, e.getErrorCode(), null));
+                continue;
+            } catch (IllegalArgumentException e) {
+                chunkResults.add(BulkOrderResult.failed(index, ErrorCode.VALIDATION_ERROR, e.getMessage()));
+                continue;
+            }
+            // Not before the order is built: the chunk still commits when an entry fails, and that entry's
+            // reservation must survive for settle to release
+            if (!productService.confirmReservation(reservations[index])) {
+                chunkResults.add(BulkOrderResult.failed(index, ErrorCode.STOCK_RESERVATION_EXPIRED, null));
+                continue;
+            }
+            Order savedOrder = orderRepository.save(order);
+            eventPublisher.publishEvent(OrderEvent.created(savedOrder));
+            chunkResults.add(BulkOrderResult.created(index, savedOrder));
+        }
+        return chunkResults;
+    }
+
+    private BulkOrderResult persistSingle(List<CreateOrderCommand> commands, int index, String[] reservations) {
+        try {
+            return transactionTemplate.execute(status -> persistChunk(commands, List.of(index), reservations)).get(0);
+        } catch (RuntimeException e) {
+            log.warn("Bulk order failed: index={}", index, e);
+            return BulkOrderResult.failed(index, ErrorCode.DATABASE_ERROR, null);
+        }
+    }
+
+    private String describe(Set<ConstraintViolation<CreateOrderCommand>> violations) {
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
     }
 }
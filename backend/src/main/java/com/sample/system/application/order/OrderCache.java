@@ -0,0 +1,106 @@
+package com.sample.system.application.order;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sample.system.common.cache.CacheStatsDto;
+import com.sample.system.common.cache.MonitoredCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Component
+public class OrderCache implements MonitoredCache {
+
+    private static final String NAME = "orders";
+    private static final int WRITE_LOCK_STRIPES = 64;
+
+    private final Cache<Long, OrderDto> cache;
+    // updatedAt of the last bulk change per order; a reader that loaded before it committed must not cache its copy
+    private final Cache<Long, LocalDateTime> tombstones;
+    // Writes go through put/invalidate rather than asMap().compute, which recordStats() would count as loads
+    private final ReentrantLock[] writeLocks = new ReentrantLock[WRITE_LOCK_STRIPES];
+
+    public OrderCache(@Value("${order.cache.maximum-size:10000}") long maximumSize,
+                      @Value("${order.cache.time-to-live:5m}") Duration timeToLive,
+                      @Value("${order.cache.tombstone-time-to-live:30s}") Duration tombstoneTimeToLive) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive)
+                .recordStats()
+                .build();
+        this.tombstones = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(tombstoneTimeToLive)
+                .build();
+        for (int i = 0; i < writeLocks.length; i++) {
+            writeLocks[i] = new ReentrantLock();
+        }
+    }
+
+    public Optional<OrderDto> get(Long orderId) {
+        return Optional.ofNullable(cache.getIfPresent(orderId));
+    }
+
+    public void put(OrderDto order) {
+        // A late writer must not replace a newer snapshot, whichever order the commits finish in
+        withWriteLock(order.id(), () -> {
+            LocalDateTime tombstone = tombstones.getIfPresent(order.id());
+            if (tombstone != null && order.updatedAt().isBefore(tombstone)) {
+                return;
+            }
+            // asMap().get does not record a hit or miss, so the stats only reflect reads through get()
+            OrderDto cached = cache.asMap().get(order.id());
+            if (cached == null || !order.updatedAt().isBefore(cached.updatedAt())) {
+                cache.put(order.id(), order);
+            }
+        });
+    }
+
+    public void putAfterCommit(OrderDto order) {
+        afterCommit(() -> put(order));
+    }
+
+    public void invalidateAfterCommit(Long orderId, LocalDateTime updatedAt) {
+        // Recorded under the same key lock as put, so a snapshot loaded before the commit cannot slip in afterwards
+        afterCommit(() -> withWriteLock(orderId, () -> {
+            tombstones.asMap().merge(orderId, updatedAt, (recorded, candidate) ->
+                    candidate.isBefore(recorded) ? recorded : candidate);
+            cache.invalidate(orderId);
+        }));
+    }
+
+    @Override
+    public CacheStatsDto stats() {
+        return CacheStatsDto.of(NAME, cache);
+    }
+
+    private void withWriteLock(Long orderId, Runnable action) {
+        ReentrantLock lock = writeLocks[Long.hashCode(orderId) & (WRITE_LOCK_STRIPES - 1)];
+        lock.lock();
+        try {
+            action.run();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
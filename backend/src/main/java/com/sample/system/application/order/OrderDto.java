@@ -1,12 +1,14 @@
 package com.sample.system.application.order;
 
+import com.sample.system.domain.common.Money;
 import com.sample.system.domain.order.Order;
 import com.sample.system.domain.order.OrderItem;
 import com.sample.system.domain.order.OrderStatus;
+import com.sample.system.infrastructure.persistence.order.OrderLineRow;
 import lombok.Builder;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -17,11 +19,44 @@ public record OrderDto(
         Long customerId,
         String customerName,
         OrderStatus status,
-        BigDecimal totalAmount,
+        Money totalAmount,
         List<OrderItemDto> orderItems,
         LocalDateTime createdAt,
         LocalDateTime updatedAt
 ) {
+    public static List<OrderDto> fromLines(List<OrderLineRow> lines) {
+        List<OrderDto> orders = new ArrayList<>();
+        int start = 0;
+        for (int i = 1; i <= lines.size(); i++) {
+            if (i == lines.size() || !lines.get(i).orderId().equals(lines.get(start).orderId())) {
+                orders.add(fromLines(lines.get(start), lines.subList(start, i)));
+                start = i;
+            }
+        }
+        return orders;
+    }
+
+    static OrderDto fromLines(OrderLineRow header, List<OrderLineRow> lines) {
+        List<OrderItemDto> items = new ArrayList<>(lines.size());
+        for (OrderLineRow line : lines) {
+            if (line.itemId() != null) {
+                items.add(OrderItemDto.from(line));
+            }
+        }
+
+        return OrderDto.builder()
+                .id(header.orderId())
+                .orderNumber(header.orderNumber())
+                .customerId(header.customerId())
+                .customerName(header.customerName())
+                .status(header.status())
+                .totalAmount(header.totalAmount())
+                .orderItems(items)
+                .createdAt(header.createdAt())
+                .updatedAt(header.updatedAt())
+                .build();
+    }
+
     public static OrderDto from(Order order) {
         return OrderDto.builder()
                 .id(order.getId())
@@ -44,8 +79,8 @@ public record OrderDto(
             Long productId,
             String productName,
             Integer quantity,
-            BigDecimal unitPrice,
-            BigDecimal totalPrice
+            Money unitPrice,
+            Money totalPrice
     ) {
         public static OrderItemDto from(OrderItem orderItem) {
             return OrderItemDto.builder()
@@ -57,5 +92,16 @@ public record OrderDto(
                     .totalPrice(orderItem.calculateTotalPrice())
                     .build();
         }
+
+        public static OrderItemDto from(OrderLineRow line) {
+            return OrderItemDto.builder()
+                    .id(line.itemId())
+                    .productId(line.productId())
+                    .productName(line.productName())
+                    .quantity(line.quantity())
+                    .unitPrice(line.unitPrice())
+                    .totalPrice(line.unitPrice().times(line.quantity()))
+                    .build();
+        }
     }
 }
@@ -0,0 +1,159 @@
+package com.sample.system.application.order;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sample.system.infrastructure.persistence.order.OrderLineRow;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+abstract class OrderExportWriter implements AutoCloseable {
+
+    private static final int FLUSH_INTERVAL = 500;
+
+    private long written;
+
+    static OrderExportWriter create(OrderExportFormat format, OutputStream out, ObjectMapper objectMapper) {
+        try {
+            return switch (format) {
+                case NDJSON -> new NdjsonWriter(objectMapper.getFactory()
+                        .createGenerator(out)
+                        .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                        .setRootValueSeparator(null));
+                case CSV -> new CsvWriter(new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8)));
+            };
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    final void accept(OrderLineRow row) {
+        try {
+            write(row);
+            if (++written % FLUSH_INTERVAL == 0) {
+                flush();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public final void close() {
+        try {
+            finish();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    protected abstract void write(OrderLineRow row) throws IOException;
+
+    protected abstract void flush() throws IOException;
+
+    protected abstract void finish() throws IOException;
+
+    private static final class NdjsonWriter extends OrderExportWriter {
+
+        private final JsonGenerator generator;
+        private final List<OrderLineRow> currentLines = new ArrayList<>();
+
+        private NdjsonWriter(JsonGenerator generator) {
+            this.generator = generator;
+        }
+
+        @Override
+        protected void write(OrderLineRow row) throws IOException {
+            if (!currentLines.isEmpty() && !Objects.equals(currentLines.get(0).orderId(), row.orderId())) {
+                writeCurrentOrder();
+            }
+            currentLines.add(row);
+        }
+
+        @Override
+        protected void flush() throws IOException {
+            generator.flush();
+        }
+
+        @Override
+        protected void finish() throws IOException {
+            if (!currentLines.isEmpty()) {
+                writeCurrentOrder();
+            }
+            generator.close();
+        }
+
+        private void writeCurrentOrder() throws IOException {
+            generator.writeObject(OrderDto.fromLines(currentLines.get(0), currentLines));
+            generator.writeRaw('\n');
+            currentLines.clear();
+        }
+    }
+
+    private static final class CsvWriter extends OrderExportWriter {
+
+        private static final String HEADER = "order_id,order_number,customer_id,customer_name,status,total_amount,"
+                + "created_at,updated_at,item_id,product_id,product_name,quantity,unit_price,total_price";
+
+        private final Writer writer;
+
+        private CsvWriter(Writer writer) throws IOException {
+            this.writer = writer;
+            writer.write(HEADER);
+            writer.write('\n');
+        }
+
+        @Override
+        protected void write(OrderLineRow row) throws IOException {
+            writer.write(String.join(",",
+                    value(row.orderId()),
+                    escape(row.orderNumber()),
+                    value(row.customerId()),
+                    escape(row.customerName()),
+                    value(row.status()),
+                    value(row.totalAmount()),
+                    value(row.createdAt()),
+                    value(row.updatedAt()),
+                    value(row.itemId()),
+                    value(row.productId()),
+                    escape(row.productName()),
+                    value(row.quantity()),
+                    value(row.unitPrice()),
+                    row.itemId() != null ? value(row.unitPrice().times(row.quantity())) : ""
+            ));
+            writer.write('\n');
+        }
+
+        @Override
+        protected void flush() throws IOException {
+            writer.flush();
+        }
+
+        @Override
+        protected void finish() throws IOException {
+            writer.flush();
+        }
+
+        private String value(Object value) {
+            return value != null ? value.toString() : "";
+        }
+
+        private String escape(String value) {
+            if (value == null) {
+                return "";
+            }
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                return value;
+            }
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.sample.system.application.order;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sample.system.common.exception.BusinessException;
+import com.sample.system.common.exception.ErrorCode;
+import com.sample.system.infrastructure.persistence.order.OrderIdempotencyKey;
+import com.sample.system.infrastructure.persistence.order.OrderIdempotencyKeyRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+@Slf4j
+@Service
+public class OrderIdempotencyService {
+
+    private static final int MAX_KEY_LENGTH = 100;
+
+    private final OrderApplicationService orderApplicationService;
+    private final OrderIdempotencyKeyRepository idempotencyKeyRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration timeToLive;
+    private final Duration waitTimeout;
+    private final Cache<String, Completed> completed;
+    private final ConcurrentMap<String, InFlight> inFlight = new ConcurrentHashMap<>();
+
+    public OrderIdempotencyService(OrderApplicationService orderApplicationService,
+                                   OrderIdempotencyKeyRepository idempotencyKeyRepository,
+                                   ObjectMapper objectMapper,
+                                   TransactionTemplate transactionTemplate,
+                                   @Value("${order.idempotency.maximum-size:10000}") long maximumSize,
+                                   @Value("${order.idempotency.time-to-live:24h}") Duration timeToLive,
+                                   @Value("${order.idempotency.wait-timeout:10s}") Duration waitTimeout) {
+        this.orderApplicationService = orderApplicationService;
+        this.idempotencyKeyRepository = idempotencyKeyRepository;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.timeToLive = timeToLive;
+        this.waitTimeout = waitTimeout;
+        this.completed = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive)
+                .build();
+    }
+
+    public IdempotentOrderResult createOrder(String idempotencyKey, CreateOrderCommand command) {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new BusinessException(ErrorCode.VALIDATION_ERROR, "Idempotency-Key must be 1 to 100 characters");
+        }
+        String requestHash = hash(command);
+
+        Completed done = completed.getIfPresent(idempotencyKey);
+        if (done != null) {
+            return replay(requestHash, done);
+        }
+
+        // Duplicates arriving while the first request runs wait for its outcome instead of creating their own order
+        InFlight mine = new InFlight(requestHash, new CompletableFuture<>());
+        InFlight running = inFlight.putIfAbsent(idempotencyKey, mine);
+        if (running != null) {
+            return await(idempotencyKey, requestHash, running);
+        }
+
+        try {
+            IdempotentOrderResult result = execute(idempotencyKey, requestHash, command);
+            mine.order().complete(result.order());
+            return result;
+        } catch (RuntimeException e) {
+            mine.order().completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(idempotencyKey, mine);
+        }
+    }
+
+    public int purgeExpired() {
+        int purged = transactionTemplate.execute(status -> idempotencyKeyRepository.deleteExpired(LocalDateTime.now()));
+        if (purged > 0) {
+            log.info("Expired idempotency keys purged: count={}", purged);
+        }
+        return purged;
+    }
+
+    private IdempotentOrderResult execute(String idempotencyKey, String requestHash, CreateOrderCommand command) {
+        Optional<Completed> stored = findStored(idempotencyKey);
+        if (stored.isPresent()) {
+            return replay(requestHash, stored.get());
+        }
+
+        try {
+            OrderDto order = orderApplicationService.createOrder(command,
+                    created -> store(idempotencyKey, requestHash, created));
+            completed.put(idempotencyKey, new Completed(requestHash, order));
+            return new IdempotentOrderResult(order, false);
+        } catch (DataIntegrityViolationException e) {
+            // Another instance committed this key first; our order was rolled back with the key row
+            log.info("Idempotency key taken by a concurrent request, replaying its order: key={}", idempotencyKey);
+            return replay(requestHash, findStored(idempotencyKey).orElseThrow(() -> e));
+        }
+    }
+
+    private IdempotentOrderResult await(String idempotencyKey, String requestHash, InFlight running) {
+        if (!running.requestHash().equals(requestHash)) {
+            throw new BusinessException(ErrorCode.IDEMPOTENCY_KEY_REUSED);
+        }
+
+        try {
+            return new IdempotentOrderResult(
+                    running.order().get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS), true);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, e.getCause());
+        } catch (TimeoutException e) {
+            throw new BusinessException(ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+        }
+    }
+
+    private IdempotentOrderResult replay(String requestHash, Completed done) {
+        if (!done.requestHash().equals(requestHash)) {
+            throw new BusinessException(ErrorCode.IDEMPOTENCY_KEY_REUSED);
+        }
+        return new IdempotentOrderResult(done.order(), true);
+    }
+
+    private Optional<Completed> findStored(String idempotencyKey) {
+        return idempotencyKeyRepository.findByIdempotencyKeyAndExpiresAtAfter(idempotencyKey, LocalDateTime.now())
+                .map(this::toCompleted)
+                .map(stored -> {
+                    completed.put(idempotencyKey, stored);
+                    return stored;
+                });
+    }
+
+    private void store(String idempotencyKey, String requestHash, OrderDto order) {
+        LocalDateTime now = LocalDateTime.now();
+        idempotencyKeyRepository.deleteExpiredKey(idempotencyKey, now);
+        try {
+            idempotencyKeyRepository.insert(idempotencyKey, requestHash, order.id(),
+                    objectMapper.writeValueAsString(order), now, now.plus(timeToLive));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize order " + order.id(), e);
+        }
+    }
+
+    private Completed toCompleted(OrderIdempotencyKey stored) {
+        try {
+            return new Completed(stored.getRequestHash(), objectMapper.readValue(stored.getResponse(), OrderDto.class));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to read stored response for order " + stored.getOrderId(), e);
+        }
+    }
+
+    private String hash(CreateOrderCommand command) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(command));
+            return HexFormat.of().formatHex(digest);
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Failed to fingerprint order request", e);
+        }
+    }
+
+    private record Completed(String requestHash, OrderDto order) {}
+
+    private record InFlight(String requestHash, CompletableFuture<OrderDto> order) {}
+}
@@ -0,0 +1,16 @@
+package com.sample.system.application.order;
+
+import java.util.List;
+
+public record OrderPage(
+        List<OrderSummaryDto> orders,
+        String nextCursor
+) {
+    public static OrderPage empty() {
+        return new OrderPage(List.of(), null);
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -7,25 +7,36 @@ import java.time.LocalDateTime;
 
 public class OrderQuery {
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
     @Builder
     public record SearchCriteria(
             Long customerId,
             OrderStatus status,
             LocalDateTime startDate,
             LocalDateTime endDate,
-            Integer page,
+            String cursor,
             Integer size
     ) {
         public SearchCriteria {
-            if (page == null || page < 0) {
-                page = 0;
-            }
             if (size == null || size <= 0) {
-                size = 20;
+                size = DEFAULT_PAGE_SIZE;
+            }
+            if (size > MAX_PAGE_SIZE) {
+                size = MAX_PAGE_SIZE;
             }
         }
     }
 
+    @Builder
+    public record ExportCriteria(
+            Long customerId,
+            OrderStatus status,
+            LocalDateTime startDate,
+            LocalDateTime endDate
+    ) {}
+
     @Builder
     public record OrderDetailQuery(
             Long orderId
@@ -0,0 +1,132 @@
+package com.sample.system.application.order;
+
+import com.sample.system.domain.common.Money;
+import com.sample.system.domain.order.OrderEvent;
+import com.sample.system.domain.order.OrderStatus;
+import com.sample.system.infrastructure.persistence.order.CustomerOrderStats;
+import com.sample.system.infrastructure.persistence.order.CustomerOrderStatsRepository;
+import com.sample.system.infrastructure.persistence.order.OrderStatusCount;
+import com.sample.system.infrastructure.persistence.order.OrderStatusCountRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderStatsAccumulator {
+
+    private final Map<OrderStatus, LongAdder> statusDeltas = newStatusAdders();
+    private final ConcurrentHashMap<Long, CustomerDelta> customerDeltas = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private final OrderStatusCountRepository orderStatusCountRepository;
+    private final CustomerOrderStatsRepository customerOrderStatsRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    // Only committed changes count; request threads just bump in-memory deltas
+    @TransactionalEventListener
+    public void onOrderEvent(OrderEvent event) {
+        record(event);
+    }
+
+    void record(OrderEvent event) {
+        switch (event.type()) {
+            case CREATED -> {
+                statusDeltas.get(event.status()).increment();
+                addCustomerDelta(event.customerId(), 1, event.totalAmount().minorUnits());
+            }
+            case STATUS_CHANGED -> {
+                statusDeltas.get(event.previousStatus()).decrement();
+                statusDeltas.get(event.status()).increment();
+                if (event.status() == OrderStatus.CANCELLED) {
+                    addCustomerDelta(event.customerId(), 0, -event.totalAmount().minorUnits());
+                }
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flush() {
+        flushLock.lock();
+        try {
+            Map<OrderStatus, Long> statusBatch = new EnumMap<>(OrderStatus.class);
+            statusDeltas.forEach((status, adder) -> {
+                long delta = adder.sumThenReset();
+                if (delta != 0) {
+                    statusBatch.put(status, delta);
+                }
+            });
+
+            // Sorted so concurrent flushers from other instances lock customer rows in the same order
+            Map<Long, CustomerDelta> customerBatch = new TreeMap<>();
+            for (Long customerId : customerDeltas.keySet()) {
+                CustomerDelta delta = customerDeltas.remove(customerId);
+                if (delta != null) {
+                    customerBatch.put(customerId, delta);
+                }
+            }
+
+            if (statusBatch.isEmpty() && customerBatch.isEmpty()) {
+                return;
+            }
+
+            try {
+                transactionTemplate.executeWithoutResult(status -> apply(statusBatch, customerBatch));
+                log.debug("Order stats flushed: statuses={}, customers={}", statusBatch.size(), customerBatch.size());
+            } catch (RuntimeException e) {
+                statusBatch.forEach((status, delta) -> statusDeltas.get(status).add(delta));
+                customerBatch.forEach((customerId, delta) -> customerDeltas.merge(customerId, delta, CustomerDelta::plus));
+                log.warn("Order stats flush failed, deltas kept for the next flush: statuses={}, customers={}",
+                        statusBatch.size(), customerBatch.size(), e);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void apply(Map<OrderStatus, Long> statusBatch, Map<Long, CustomerDelta> customerBatch) {
+        statusBatch.forEach((status, delta) -> {
+            if (orderStatusCountRepository.increment(status, delta) == 0) {
+                orderStatusCountRepository.save(new OrderStatusCount(status, delta));
+            }
+        });
+        customerBatch.forEach((customerId, delta) -> {
+            Money spend = Money.ofMinor(delta.spendMinorUnits());
+            if (customerOrderStatsRepository.increment(customerId, delta.orderCount(), spend.toBigDecimal()) == 0) {
+                customerOrderStatsRepository.save(new CustomerOrderStats(customerId, delta.orderCount(), spend));
+            }
+        });
+    }
+
+    private void addCustomerDelta(Long customerId, long orderCount, long spendMinorUnits) {
+        if (customerId != null) {
+            // merge is atomic per key, so a concurrent flush either sees this delta or leaves it for the next one
+            customerDeltas.merge(customerId, new CustomerDelta(orderCount, spendMinorUnits), CustomerDelta::plus);
+        }
+    }
+
+    private static Map<OrderStatus, LongAdder> newStatusAdders() {
+        Map<OrderStatus, LongAdder> adders = new EnumMap<>(OrderStatus.class);
+        for (OrderStatus status : OrderStatus.values()) {
+            adders.put(status, new LongAdder());
+        }
+        return adders;
+    }
+
+    record CustomerDelta(long orderCount, long spendMinorUnits) {
+        CustomerDelta plus(CustomerDelta other) {
+            return new CustomerDelta(orderCount + other.orderCount, spendMinorUnits + other.spendMinorUnits);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.sample.system.application.order;
+
+import com.sample.system.domain.common.Money;
+import com.sample.system.domain.order.OrderStatus;
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record OrderStatsReconciliationReport(
+        List<StatusDrift> statusDrifts,
+        int customerDriftCount,
+        List<CustomerDrift> customerDriftSamples,
+        long elapsedMillis
+) {
+    public boolean hasDrift() {
+        return !statusDrifts.isEmpty() || customerDriftCount > 0;
+    }
+
+    public record StatusDrift(
+            OrderStatus status,
+            long recorded,
+            long actual
+    ) {}
+
+    public record CustomerDrift(
+            Long customerId,
+            long recordedOrderCount,
+            long actualOrderCount,
+            Money recordedLifetimeSpend,
+            Money actualLifetimeSpend
+    ) {}
+}
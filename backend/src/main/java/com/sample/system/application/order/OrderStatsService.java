@@ -0,0 +1,123 @@
+package com.sample.system.application.order;
+
+import com.sample.system.domain.common.Money;
+import com.sample.system.domain.order.OrderStatus;
+import com.sample.system.infrastructure.persistence.order.CustomerOrderStats;
+import com.sample.system.infrastructure.persistence.order.CustomerOrderStatsRepository;
+import com.sample.system.infrastructure.persistence.order.OrderStatusCount;
+import com.sample.system.infrastructure.persistence.order.OrderStatusCountRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderStatsService {
+
+    private static final int DRIFT_SAMPLE_SIZE = 20;
+
+    private final OrderStatusCountRepository orderStatusCountRepository;
+    private final CustomerOrderStatsRepository customerOrderStatsRepository;
+    private final OrderStatsAccumulator orderStatsAccumulator;
+    private final TransactionTemplate transactionTemplate;
+
+    @Transactional(readOnly = true)
+    public Map<OrderStatus, Long> getStatusCounts() {
+        Map<OrderStatus, Long> counts = new EnumMap<>(OrderStatus.class);
+        for (OrderStatus status : OrderStatus.values()) {
+            counts.put(status, 0L);
+        }
+        for (OrderStatusCount count : orderStatusCountRepository.findAll()) {
+            counts.put(count.getStatus(), count.getOrderCount());
+        }
+        return counts;
+    }
+
+    @Transactional(readOnly = true)
+    public CustomerOrderStatsDto getCustomerStats(Long customerId) {
+        return customerOrderStatsRepository.findById(customerId)
+                .map(CustomerOrderStatsDto::from)
+                .orElseGet(() -> CustomerOrderStatsDto.empty(customerId));
+    }
+
+    // Changes committed between the flush and the recount can be counted twice; the next run corrects them
+    public OrderStatsReconciliationReport reconcile() {
+        long startedAt = System.nanoTime();
+        orderStatsAccumulator.flush();
+
+        OrderStatsReconciliationReport report = transactionTemplate.execute(status -> {
+            List<OrderStatsReconciliationReport.StatusDrift> statusDrifts = reconcileStatusCounts();
+
+            List<Object[]> customerRows = customerOrderStatsRepository.findDrift();
+            List<OrderStatsReconciliationReport.CustomerDrift> samples = new ArrayList<>();
+            for (Object[] row : customerRows) {
+                OrderStatsReconciliationReport.CustomerDrift drift = toCustomerDrift(row);
+                if (customerOrderStatsRepository.overwrite(drift.customerId(), drift.actualOrderCount(),
+                        drift.actualLifetimeSpend().toBigDecimal()) == 0) {
+                    customerOrderStatsRepository.save(new CustomerOrderStats(
+                            drift.customerId(), drift.actualOrderCount(), drift.actualLifetimeSpend()));
+                }
+                if (samples.size() < DRIFT_SAMPLE_SIZE) {
+                    samples.add(drift);
+                }
+            }
+
+            return OrderStatsReconciliationReport.builder()
+                    .statusDrifts(statusDrifts)
+                    .customerDriftCount(customerRows.size())
+                    .customerDriftSamples(samples)
+                    .elapsedMillis((System.nanoTime() - startedAt) / 1_000_000)
+                    .build();
+        });
+
+        if (report.hasDrift()) {
+            log.warn("Order stats drift corrected: statusDrifts={}, customerDrifts={}, samples={}",
+                    report.statusDrifts(), report.customerDriftCount(), report.customerDriftSamples());
+        } else {
+            log.info("Order stats reconciled without drift: elapsedMs={}", report.elapsedMillis());
+        }
+        return report;
+    }
+
+    private List<OrderStatsReconciliationReport.StatusDrift> reconcileStatusCounts() {
+        Map<OrderStatus, Long> actual = new EnumMap<>(OrderStatus.class);
+        for (OrderStatus status : OrderStatus.values()) {
+            actual.put(status, 0L);
+        }
+        for (Object[] row : orderStatusCountRepository.countOrdersByStatus()) {
+            actual.put((OrderStatus) row[0], ((Number) row[1]).longValue());
+        }
+
+        Map<OrderStatus, Long> recorded = getStatusCounts();
+        List<OrderStatsReconciliationReport.StatusDrift> drifts = new ArrayList<>();
+        actual.forEach((status, count) -> {
+            long recordedCount = recorded.get(status);
+            if (recordedCount != count) {
+                drifts.add(new OrderStatsReconciliationReport.StatusDrift(status, recordedCount, count));
+                if (orderStatusCountRepository.overwrite(status, count) == 0) {
+                    orderStatusCountRepository.save(new OrderStatusCount(status, count));
+                }
+            }
+        });
+        return drifts;
+    }
+
+    private OrderStatsReconciliationReport.CustomerDrift toCustomerDrift(Object[] row) {
+        return new OrderStatsReconciliationReport.CustomerDrift(
+                ((Number) row[0]).longValue(),
+                row[3] != null ? ((Number) row[3]).longValue() : 0L,
+                ((Number) row[1]).longValue(),
+                row[4] != null ? Money.of((BigDecimal) row[4]) : Money.ZERO,
+                Money.of((BigDecimal) row[2])
+        );
+    }
+}
@@ -0,0 +1,35 @@
+package com.sample.system.application.order;
+
+import com.sample.system.domain.common.Money;
+import com.sample.system.domain.order.OrderStatus;
+import com.sample.system.infrastructure.persistence.order.OrderSummary;
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+
+@Builder
+public record OrderSummaryDto(
+        Long id,
+        String orderNumber,
+        Long customerId,
+        String customerName,
+        OrderStatus status,
+        Money totalAmount,
+        int itemCount,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+    public static OrderSummaryDto from(OrderSummary summary) {
+        return OrderSummaryDto.builder()
+                .id(summary.getOrderId())
+                .orderNumber(summary.getOrderNumber())
+                .customerId(summary.getCustomerId())
+                .customerName(summary.getCustomerName())
+                .status(summary.getStatus())
+                .totalAmount(summary.getTotalAmount())
+                .itemCount(summary.getItemCount())
+                .createdAt(summary.getCreatedAt())
+                .updatedAt(summary.getUpdatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,40 @@
+package com.sample.system.application.order;
+
+import com.sample.system.infrastructure.outbox.OrderEventMessage;
+import com.sample.system.infrastructure.outbox.OrderEventSink;
+import com.sample.system.infrastructure.persistence.order.OrderSummaryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderSummaryProjector implements OrderEventSink {
+
+    private final OrderSummaryRepository orderSummaryRepository;
+
+    // Events only say which orders changed; rows are re-derived from the order tables, so replays and
+    // out-of-band bulk updates converge to the committed state. Runs in the outbox transaction, so the
+    // summary rows and the outbox deletion commit together.
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(List<OrderEventMessage> messages) {
+        Set<Long> orderIds = new TreeSet<>();
+        for (OrderEventMessage message : messages) {
+            orderIds.add(message.orderId());
+        }
+
+        // Upserts keep the newer snapshot, so a rebuild running on another instance cannot collide with or undo this
+        int refreshed = orderSummaryRepository.upsertFromOrders(orderIds);
+        orderSummaryRepository.deleteOrphansByOrderIdIn(orderIds);
+
+        log.debug("Order summaries refreshed: events={}, orders={}", messages.size(), refreshed);
+    }
+}
@@ -0,0 +1,98 @@
+package com.sample.system.application.order;
+
+import com.sample.system.infrastructure.persistence.order.OrderIdRange;
+import com.sample.system.infrastructure.persistence.order.OrderSummaryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderSummaryRebuilder implements ApplicationRunner {
+
+    private static final String REBUILD_OPTION = "rebuild-order-summary";
+
+    private final OrderSummaryRepository orderSummaryRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${order.summary.rebuild-chunk-size:5000}")
+    private long chunkSize = 5000;
+
+    @Value("${order.summary.rebuild-parallelism:4}")
+    private int parallelism = 4;
+
+    // java -jar app.jar --rebuild-order-summary
+    @Override
+    public void run(ApplicationArguments args) {
+        if (args.containsOption(REBUILD_OPTION)) {
+            rebuild();
+        }
+    }
+
+    public long rebuild() {
+        OrderIdRange range = orderSummaryRepository.findOrderIdRange();
+        if (range.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> orderSummaryRepository.deleteAllInBatch());
+            log.info("Order summary rebuilt: no orders");
+            return 0;
+        }
+
+        long startedAt = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status ->
+                orderSummaryRepository.deleteOrphansOutsideOrderIdRange(range.minId(), range.maxId()));
+
+        long step = Math.max(1, chunkSize);
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, parallelism));
+        try {
+            List<CompletableFuture<Integer>> chunks = new ArrayList<>();
+            for (long from = range.minId(); from <= range.maxId(); from += step) {
+                long fromId = from;
+                long toId = Math.min(from + step - 1, range.maxId());
+                chunks.add(CompletableFuture.supplyAsync(() -> rebuildChunk(fromId, toId), executor));
+            }
+
+            long rows = 0;
+            for (CompletableFuture<Integer> chunk : chunks) {
+                rows += chunk.join();
+            }
+
+            log.info("Order summary rebuilt: rows={}, chunks={}, elapsedMs={}",
+                    rows, chunks.size(), (System.nanoTime() - startedAt) / 1_000_000);
+            return rows;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private int rebuildChunk(long fromId, long toId) {
+        try {
+            return upsertChunk(fromId, toId);
+        } catch (DataIntegrityViolationException e) {
+            // A projector inserted one of the missing rows first; the upsert is idempotent, so running it again
+            // updates that row instead
+            log.debug("Order summary chunk raced a projector, retrying: fromId={}, toId={}", fromId, toId);
+            return upsertChunk(fromId, toId);
+        }
+    }
+
+    // Rows are upserted in place, so readers never see a range half-deleted
+    private int upsertChunk(long fromId, long toId) {
+        return transactionTemplate.execute(status -> {
+            int rows = orderSummaryRepository.upsertFromOrderRange(fromId, toId);
+            orderSummaryRepository.deleteOrphansInOrderIdRange(fromId, toId);
+            return rows;
+        });
+    }
+}
@@ -0,0 +1,20 @@
+package com.sample.system.application.order;
+
+import com.sample.system.domain.order.OrderStatus;
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record OrderTransitionResult(
+        OrderStatus targetStatus,
+        List<Long> transitioned,
+        List<Rejection> rejected
+) {
+    @Builder
+    public record Rejection(
+            Long orderId,
+            OrderStatus currentStatus,
+            String errorCode
+    ) {}
+}
@@ -0,0 +1,53 @@
+package com.sample.system.application.product;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sample.system.common.cache.CacheStatsDto;
+import com.sample.system.common.cache.MonitoredCache;
+import com.sample.system.infrastructure.persistence.product.ProductRepository;
+import com.sample.system.infrastructure.persistence.product.ProductRow;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Component
+public class ProductCatalog implements MonitoredCache {
+
+    private static final String NAME = "products";
+
+    private final ProductRepository productRepository;
+    private final Cache<Long, ProductDto> cache;
+
+    public ProductCatalog(ProductRepository productRepository,
+                          @Value("${product.cache.maximum-size:10000}") long maximumSize,
+                          @Value("${product.cache.time-to-live:1m}") Duration timeToLive) {
+        this.productRepository = productRepository;
+        // Name and price only; stock changes on every order and is always read from the table
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive)
+                .recordStats()
+                .build();
+    }
+
+    public Map<Long, ProductDto> getAll(Collection<Long> productIds) {
+        // Unknown ids are simply absent from the result; misses are loaded together in one IN query
+        return cache.getAll(productIds, this::load);
+    }
+
+    @Override
+    public CacheStatsDto stats() {
+        return CacheStatsDto.of(NAME, cache);
+    }
+
+    private Map<Long, ProductDto> load(Set<? extends Long> productIds) {
+        List<ProductRow> rows = productRepository.findRowsByIdIn(List.copyOf(productIds));
+        return rows.stream().collect(Collectors.toMap(ProductRow::id, ProductDto::from));
+    }
+}
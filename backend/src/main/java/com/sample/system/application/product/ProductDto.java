@@ -0,0 +1,20 @@
+package com.sample.system.application.product;
+
+import com.sample.system.domain.common.Money;
+import com.sample.system.infrastructure.persistence.product.ProductRow;
+import lombok.Builder;
+
+@Builder
+public record ProductDto(
+        Long id,
+        String name,
+        Money price
+) {
+    public static ProductDto from(ProductRow row) {
+        return ProductDto.builder()
+                .id(row.id())
+                .name(row.name())
+                .price(Money.of(row.price()))
+                .build();
+    }
+}
@@ -0,0 +1,56 @@
+package com.sample.system.application.product;
+
+import com.sample.system.domain.product.ProductService;
+import com.sample.system.infrastructure.persistence.product.StockReservationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Gives back stock whose order transaction never committed, e.g. after a crash between the two commits
+@Slf4j
+@Component
+public class StockReservationSweeper {
+
+    private final ProductService productService;
+    private final StockReservationRepository stockReservationRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration timeout;
+    private final int batchSize;
+
+    public StockReservationSweeper(ProductService productService,
+                                   StockReservationRepository stockReservationRepository,
+                                   TransactionTemplate transactionTemplate,
+                                   @Value("${product.stock-reservation.timeout:5m}") Duration timeout,
+                                   @Value("${product.stock-reservation.sweep-batch-size:500}") int batchSize) {
+        this.productService = productService;
+        this.stockReservationRepository = stockReservationRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.timeout = timeout;
+        this.batchSize = batchSize;
+    }
+
+    public int releaseExpired() {
+        // The timeout must outlast any order transaction; one still running when it passes fails to confirm
+        List<String> expired = stockReservationRepository.findReservationIdsReservedBefore(
+                LocalDateTime.now().minus(timeout), PageRequest.ofSize(Math.max(1, batchSize)));
+
+        int released = 0;
+        for (String reservationId : expired) {
+            if (Boolean.TRUE.equals(transactionTemplate.execute(
+                    status -> productService.releaseReservation(reservationId)))) {
+                released++;
+            }
+        }
+
+        if (released > 0) {
+            log.warn("Unconfirmed stock reservations released: count={}", released);
+        }
+        return released;
+    }
+}
@@ -1,15 +1,13 @@
 package com.sample.system.application.recommendation;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sample.system.domain.recommendation.RecommendationService;
 import com.sample.system.infrastructure.external.AiClient;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @Service
@@ -17,16 +15,25 @@ import java.util.List;
 public class RecommendationApplicationService {
 
     private final AiClient aiClient;
-    private final ObjectMapper objectMapper;
+    private final RecommendationParser recommendationParser;
+    private final RecommendationCache recommendationCache;
 
-    public List<RecommendationDto> getRecommendations(Long customerId, String orderHistory) {
+    public CompletableFuture<List<RecommendationDto>> getRecommendations(Long customerId, String orderHistory) {
         log.info("Getting AI recommendations for customer: {}", customerId);
 
-        String prompt = buildPrompt(customerId, orderHistory);
+        return recommendationCache.get(customerId, orderHistory,
+                () -> loadRecommendations(customerId, orderHistory));
+    }
 
-        String aiResponse = aiClient.generateRecommendations(prompt);
+    private CompletableFuture<List<RecommendationDto>> loadRecommendations(Long customerId, String orderHistory) {
+        String prompt = buildPrompt(customerId, orderHistory);
 
-        return parseRecommendations(aiResponse);
+        return aiClient.generateRecommendations(prompt)
+                .thenApply(recommendationParser::parse)
+                .exceptionally(e -> {
+                    log.warn("AI recommendations unavailable, returning empty result: customerId={}", customerId);
+                    return List.of();
+                });
     }
 
     private String buildPrompt(Long customerId, String orderHistory) {
@@ -38,28 +45,4 @@ public class RecommendationApplicationService {
                 orderHistory != null ? orderHistory : "No order history"
         );
     }
-
-    private List<RecommendationDto> parseRecommendations(String aiResponse) {
-        List<RecommendationDto> recommendations = new ArrayList<>();
-
-        try {
-            JsonNode root = objectMapper.readTree(aiResponse);
-            JsonNode recommendationsNode = root.get("recommendations");
-
-            if (recommendationsNode != null && recommendationsNode.isArray()) {
-                for (JsonNode node : recommendationsNode) {
-                    recommendations.add(RecommendationDto.builder()
-                            .productId(node.get("productId").asLong())
-                            .productName(node.get("productName").asText())
-                            .reason(node.get("reason").asText())
-                            .confidenceScore(node.get("confidenceScore").asDouble())
-                            .build());
-                }
-            }
-        } catch (Exception e) {
-            log.error("Failed to parse AI recommendations", e);
-        }
-
-        return recommendations;
-    }
 }
@@ -0,0 +1,85 @@
+package com.sample.system.application.recommendation;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.sample.system.common.cache.CacheStatsDto;
+import com.sample.system.common.cache.MonitoredCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+@Component
+public class RecommendationCache implements MonitoredCache {
+
+    private static final String NAME = "recommendations";
+
+    private final AsyncCache<Key, List<RecommendationDto>> cache;
+
+    public RecommendationCache(@Value("${recommendation.cache.maximum-size:10000}") long maximumSize,
+                               @Value("${recommendation.cache.time-to-live:10m}") Duration timeToLive,
+                               @Value("${recommendation.cache.empty-time-to-live:30s}") Duration emptyTimeToLive) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new ResultExpiry(timeToLive, emptyTimeToLive))
+                .recordStats()
+                .buildAsync();
+    }
+
+    public CompletableFuture<List<RecommendationDto>> get(Long customerId, String orderHistory,
+                                                          Supplier<CompletableFuture<List<RecommendationDto>>> loader) {
+        // Concurrent misses for the same key share the in-flight future, so only one upstream call is made
+        return cache.get(Key.of(customerId, orderHistory), (key, executor) -> loader.get());
+    }
+
+    @Override
+    public CacheStatsDto stats() {
+        return CacheStatsDto.of(NAME, cache.synchronous());
+    }
+
+    record Key(Long customerId, String historyHash) {
+
+        static Key of(Long customerId, String orderHistory) {
+            return new Key(customerId, orderHistory == null ? "" : sha256(orderHistory));
+        }
+
+        private static String sha256(String value) {
+            try {
+                MessageDigest digest = MessageDigest.getInstance("SHA-256");
+                return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    private record ResultExpiry(Duration timeToLive, Duration emptyTimeToLive)
+            implements Expiry<Key, List<RecommendationDto>> {
+
+        @Override
+        public long expireAfterCreate(Key key, List<RecommendationDto> value, long currentTime) {
+            // Empty results usually mean the upstream call failed, so retry them sooner
+            return (value.isEmpty() ? emptyTimeToLive : timeToLive).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(Key key, List<RecommendationDto> value, long currentTime,
+                                      long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(Key key, List<RecommendationDto> value, long currentTime,
+                                    long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
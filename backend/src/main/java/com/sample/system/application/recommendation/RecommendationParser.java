@@ -0,0 +1,139 @@
+package com.sample.system.application.recommendation;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+@Slf4j
+@Component
+public class RecommendationParser {
+
+    private static final String RECOMMENDATIONS_FIELD = "recommendations";
+
+    private final JsonFactory jsonFactory;
+
+    public RecommendationParser(ObjectMapper objectMapper) {
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    public List<RecommendationDto> parse(String aiResponse) {
+        List<RecommendationDto> recommendations = new ArrayList<>();
+        if (aiResponse == null || aiResponse.isBlank()) {
+            return recommendations;
+        }
+
+        try (JsonParser parser = jsonFactory.createParser(aiResponse)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                log.warn("AI recommendation response is not a JSON object");
+                return recommendations;
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if (RECOMMENDATIONS_FIELD.equals(field) && value == JsonToken.START_ARRAY) {
+                    readRecommendations(parser, recommendations);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Malformed AI recommendation response, keeping {} parsed entries: {}",
+                    recommendations.size(), e.getMessage());
+        }
+
+        return recommendations;
+    }
+
+    private void readRecommendations(JsonParser parser, List<RecommendationDto> recommendations) throws IOException {
+        int skipped = 0;
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token == null) {
+                throw new IOException("Unexpected end of recommendations array");
+            }
+            if (token != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                skipped++;
+                continue;
+            }
+
+            RecommendationDto recommendation = readRecommendation(parser);
+            if (recommendation != null) {
+                recommendations.add(recommendation);
+            } else {
+                skipped++;
+            }
+        }
+
+        if (skipped > 0) {
+            log.warn("Skipped {} malformed AI recommendation entries", skipped);
+        }
+    }
+
+    private RecommendationDto readRecommendation(JsonParser parser) throws IOException {
+        Long productId = null;
+        String productName = null;
+        String reason = null;
+        Double confidenceScore = null;
+        boolean valid = true;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+
+            switch (field) {
+                case "productId" -> {
+                    if (value == JsonToken.VALUE_NUMBER_INT
+                            && parser.getNumberType() != JsonParser.NumberType.BIG_INTEGER) {
+                        productId = parser.getLongValue();
+                    } else {
+                        valid = false;
+                    }
+                }
+                case "productName" -> {
+                    if (value == JsonToken.VALUE_STRING) {
+                        productName = parser.getText();
+                    } else {
+                        valid = false;
+                    }
+                }
+                case "reason" -> {
+                    if (value == JsonToken.VALUE_STRING) {
+                        reason = parser.getText();
+                    } else if (value != JsonToken.VALUE_NULL) {
+                        valid = false;
+                    }
+                }
+                case "confidenceScore" -> {
+                    if (value.isNumeric()) {
+                        confidenceScore = parser.getDoubleValue();
+                    } else if (value != JsonToken.VALUE_NULL) {
+                        valid = false;
+                    }
+                }
+                default -> {
+                }
+            }
+            parser.skipChildren();
+        }
+
+        if (!valid || productId == null || productName == null) {
+            return null;
+        }
+
+        return RecommendationDto.builder()
+                .productId(productId)
+                .productName(productName)
+                .reason(reason)
+                .confidenceScore(confidenceScore)
+                .build();
+    }
+}
@@ -0,0 +1,36 @@
+package com.sample.system.common.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.Builder;
+
+@Builder
+public record CacheStatsDto(
+        String name,
+        long size,
+        long requestCount,
+        long hitCount,
+        long missCount,
+        double hitRate,
+        long evictionCount,
+        long loadSuccessCount,
+        long loadFailureCount,
+        double averageLoadPenaltyMillis
+) {
+    public static CacheStatsDto of(String name, Cache<?, ?> cache) {
+        CacheStats stats = cache.stats();
+        return CacheStatsDto.builder()
+                .name(name)
+                .size(cache.estimatedSize())
+                // hitRate is 1.0 before the first request; read it together with requestCount
+                .requestCount(stats.requestCount())
+                .hitCount(stats.hitCount())
+                .missCount(stats.missCount())
+                .hitRate(stats.hitRate())
+                .evictionCount(stats.evictionCount())
+                .loadSuccessCount(stats.loadSuccessCount())
+                .loadFailureCount(stats.loadFailureCount())
+                .averageLoadPenaltyMillis(stats.averageLoadPenalty() / 1_000_000.0)
+                .build();
+    }
+}
@@ -0,0 +1,5 @@
+package com.sample.system.common.cache;
+
+public interface MonitoredCache {
+    CacheStatsDto stats();
+}
@@ -11,12 +11,19 @@ public enum ErrorCode {
     ORDER_NOT_FOUND(HttpStatus.NOT_FOUND, "ORD001", "Order not found"),
     PRODUCT_NOT_FOUND(HttpStatus.NOT_FOUND, "PRD001", "Product not found"),
     INSUFFICIENT_STOCK(HttpStatus.BAD_REQUEST, "PRD002", "Insufficient stock"),
+    STOCK_RESERVATION_EXPIRED(HttpStatus.CONFLICT, "PRD003", "Stock reservation expired before the order was saved, please retry"),
 
     INVALID_ORDER_STATUS(HttpStatus.BAD_REQUEST, "ORD002", "Invalid order status transition"),
     INVALID_PAYMENT_AMOUNT(HttpStatus.BAD_REQUEST, "ORD003", "Payment amount does not match order total"),
 
+    IDEMPOTENCY_REQUEST_IN_PROGRESS(HttpStatus.CONFLICT, "IDM001", "A request with this idempotency key is still in progress"),
+    IDEMPOTENCY_KEY_REUSED(HttpStatus.UNPROCESSABLE_ENTITY, "IDM002", "Idempotency key was already used for a different request"),
+
+    TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "RATE001", "Too many requests, retry after the time in the Retry-After header"),
+
     EXTERNAL_API_ERROR(HttpStatus.SERVICE_UNAVAILABLE, "EXT001", "External API call failed"),
     DATABASE_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "DB001", "Database operation failed"),
+    CONCURRENT_MODIFICATION(HttpStatus.CONFLICT, "DB002", "Resource was modified concurrently, please retry"),
 
     VALIDATION_ERROR(HttpStatus.BAD_REQUEST, "VAL001", "Validation failed"),
     UNAUTHORIZED(HttpStatus.UNAUTHORIZED, "AUTH001", "Authentication required"),
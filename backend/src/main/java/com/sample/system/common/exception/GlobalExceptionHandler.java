@@ -1,12 +1,16 @@
 package com.sample.system.common.exception;
 
 import jakarta.servlet.http.HttpServletRequest;
+import com.sample.system.common.ratelimit.RateLimitExceededException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -39,6 +43,27 @@ public class GlobalExceptionHandler {
                 .body(errorResponse);
     }
 
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<ErrorResponse> handleRateLimitExceededException(
+            RateLimitExceededException e,
+            HttpServletRequest request) {
+
+        log.debug("Request rate limited: path={}, retryAfter={}s",
+                request.getRequestURI(),
+                e.getRetryAfterSeconds());
+
+        ErrorResponse errorResponse = ErrorResponse.of(
+                e.getErrorCode(),
+                request.getRequestURI(),
+                getCorrelationId(request)
+        );
+
+        return ResponseEntity
+                .status(e.getErrorCode().getHttpStatus())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(errorResponse);
+    }
+
     @ExceptionHandler({MethodArgumentNotValidException.class, BindException.class})
     public ResponseEntity<ErrorResponse> handleValidationException(
             BindException e,
@@ -70,6 +95,51 @@ public class GlobalExceptionHandler {
                 .body(errorResponse);
     }
 
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<ErrorResponse> handleTypeMismatchException(
+            MethodArgumentTypeMismatchException e,
+            HttpServletRequest request) {
+
+        log.warn("Type mismatch exception occurred: path={}, parameter={}",
+                request.getRequestURI(),
+                e.getName());
+
+        ErrorResponse errorResponse = ErrorResponse.of(
+                ErrorCode.VALIDATION_ERROR,
+                request.getRequestURI(),
+                getCorrelationId(request),
+                List.of(ErrorResponse.FieldError.builder()
+                        .field(e.getName())
+                        .message("Invalid value")
+                        .rejectedValue(e.getValue())
+                        .build())
+        );
+
+        return ResponseEntity
+                .status(ErrorCode.VALIDATION_ERROR.getHttpStatus())
+                .body(errorResponse);
+    }
+
+    @ExceptionHandler(ConcurrencyFailureException.class)
+    public ResponseEntity<ErrorResponse> handleConcurrencyFailureException(
+            ConcurrencyFailureException e,
+            HttpServletRequest request) {
+
+        log.warn("Concurrency failure occurred: path={}, message={}",
+                request.getRequestURI(),
+                e.getMessage());
+
+        ErrorResponse errorResponse = ErrorResponse.of(
+                ErrorCode.CONCURRENT_MODIFICATION,
+                request.getRequestURI(),
+                getCorrelationId(request)
+        );
+
+        return ResponseEntity
+                .status(ErrorCode.CONCURRENT_MODIFICATION.getHttpStatus())
+                .body(errorResponse);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleException(
             Exception e,
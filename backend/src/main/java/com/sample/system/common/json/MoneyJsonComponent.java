@@ -0,0 +1,46 @@
+package com.sample.system.common.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.sample.system.domain.common.Money;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+
+@JsonComponent
+public class MoneyJsonComponent {
+
+    public static class Serializer extends JsonSerializer<Money> {
+
+        private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[Money.MAX_CHARS]);
+
+        @Override
+        public void serialize(Money money, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            // Written as a JSON number with exactly two decimals, e.g. 20.00, without an intermediate String
+            char[] buffer = BUFFER.get();
+            generator.writeNumber(buffer, 0, money.formatTo(buffer));
+        }
+    }
+
+    public static class Deserializer extends JsonDeserializer<Money> {
+
+        @Override
+        public Money deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            try {
+                BigDecimal amount = parser.currentToken() == JsonToken.VALUE_STRING
+                        ? new BigDecimal(parser.getText().trim())
+                        : parser.getDecimalValue();
+                return Money.of(amount);
+            } catch (NumberFormatException | ArithmeticException e) {
+                throw InvalidFormatException.from(parser, "Invalid money amount", parser.getText(), Money.class);
+            }
+        }
+    }
+}
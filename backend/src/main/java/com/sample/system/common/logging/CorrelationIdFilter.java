@@ -5,13 +5,11 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.MDC;
-import org.springframework.stereotype.Component;
 
 import java.io.IOException;
 import java.util.UUID;
 
 @Slf4j
-@Component
 public class CorrelationIdFilter implements Filter {
 
     private static final String CORRELATION_ID_HEADER = "X-Correlation-ID";
@@ -0,0 +1,30 @@
+package com.sample.system.common.logging;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+public class LogQueueMonitor {
+
+    // Looked up on each call rather than cached, since reinitializing the logging system replaces the appenders
+    public List<LogQueueStatsDto> stats() {
+        if (!(LoggerFactory.getILoggerFactory() instanceof LoggerContext loggerContext)) {
+            return List.of();
+        }
+
+        List<LogQueueStatsDto> stats = new ArrayList<>();
+        for (Logger logger : loggerContext.getLoggerList()) {
+            logger.iteratorForAppenders().forEachRemaining(appender -> {
+                if (appender instanceof MonitoredAsyncAppender asyncAppender) {
+                    stats.add(asyncAppender.stats());
+                }
+            });
+        }
+        return stats;
+    }
+}
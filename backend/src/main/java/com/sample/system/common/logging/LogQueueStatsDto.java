@@ -0,0 +1,14 @@
+package com.sample.system.common.logging;
+
+import lombok.Builder;
+
+@Builder
+public record LogQueueStatsDto(
+        String appender,
+        int capacity,
+        int queued,
+        int remainingCapacity,
+        boolean neverBlock,
+        long discardedCount,
+        long droppedCount
+) {}
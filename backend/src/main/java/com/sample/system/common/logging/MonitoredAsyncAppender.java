@@ -0,0 +1,39 @@
+package com.sample.system.common.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public class MonitoredAsyncAppender extends AsyncAppender {
+
+    private final LongAdder discarded = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    // Only consulted once the queue is below the discarding threshold, so the common path pays nothing extra
+    @Override
+    protected boolean isDiscardable(ILoggingEvent event) {
+        if (super.isDiscardable(event)) {
+            discarded.increment();
+            return true;
+        }
+        // A WARN/ERROR that finds the queue completely full is dropped by offer() when neverBlock is set.
+        // The queue itself is private, so this is read just before and can be off by a few under a race
+        if (isNeverBlock() && getRemainingCapacity() == 0) {
+            dropped.increment();
+        }
+        return false;
+    }
+
+    public LogQueueStatsDto stats() {
+        return LogQueueStatsDto.builder()
+                .appender(getName())
+                .capacity(getQueueSize())
+                .queued(getNumberOfElementsInQueue())
+                .remainingCapacity(getRemainingCapacity())
+                .neverBlock(isNeverBlock())
+                .discardedCount(discarded.sum())
+                .droppedCount(dropped.sum())
+                .build();
+    }
+}
@@ -0,0 +1,67 @@
+package com.sample.system.common.metrics;
+
+import com.sample.system.common.exception.BusinessException;
+import com.sample.system.common.exception.ErrorCode;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Collectors;
+
+class MethodMetrics {
+
+    static final String UNHANDLED_ERROR = "UNHANDLED";
+
+    private static final ErrorCode[] ERROR_CODES = ErrorCode.values();
+    // Failures that are not a BusinessException share the slot after the last ErrorCode
+    private static final int UNHANDLED_SLOT = ERROR_CODES.length;
+
+    private final String name;
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final AtomicLongArray errors = new AtomicLongArray(ERROR_CODES.length + 1);
+
+    MethodMetrics(Method method) {
+        this.name = method.getDeclaringClass().getSimpleName() + "." + method.getName()
+                + Arrays.stream(method.getParameterTypes())
+                        .map(Class::getSimpleName)
+                        .collect(Collectors.joining(",", "(", ")"));
+    }
+
+    void recordLatency(long nanos) {
+        latency.record(nanos);
+    }
+
+    void recordError(Throwable error) {
+        errors.incrementAndGet(error instanceof BusinessException businessException
+                ? businessException.getErrorCode().ordinal()
+                : UNHANDLED_SLOT);
+    }
+
+    MethodMetricsDto toDto() {
+        LatencyHistogram.Snapshot snapshot = latency.snapshot();
+        Map<String, Long> errorsByCode = new LinkedHashMap<>();
+        long errorCount = 0;
+        for (int slot = 0; slot <= UNHANDLED_SLOT; slot++) {
+            long count = errors.get(slot);
+            if (count > 0) {
+                errorsByCode.put(slot == UNHANDLED_SLOT ? UNHANDLED_ERROR : ERROR_CODES[slot].name(), count);
+                errorCount += count;
+            }
+        }
+
+        return MethodMetricsDto.builder()
+                .method(name)
+                .count(snapshot.count())
+                .errorCount(errorCount)
+                .errorsByCode(errorsByCode)
+                .totalMillis(snapshot.totalNanos() / 1_000_000.0)
+                .meanMicros(snapshot.meanMicros())
+                .p50Micros(LatencyHistogram.Snapshot.toMicros(snapshot.valueAt(0.5)))
+                .p99Micros(LatencyHistogram.Snapshot.toMicros(snapshot.valueAt(0.99)))
+                .p999Micros(LatencyHistogram.Snapshot.toMicros(snapshot.valueAt(0.999)))
+                .maxMicros(LatencyHistogram.Snapshot.toMicros(snapshot.maxNanos()))
+                .build();
+    }
+}
@@ -0,0 +1,19 @@
+package com.sample.system.common.metrics;
+
+import lombok.Builder;
+
+import java.util.Map;
+
+@Builder
+public record MethodMetricsDto(
+        String method,
+        long count,
+        long errorCount,
+        Map<String, Long> errorsByCode,
+        double totalMillis,
+        double meanMicros,
+        double p50Micros,
+        double p99Micros,
+        double p999Micros,
+        double maxMicros
+) {}
@@ -0,0 +1,32 @@
+package com.sample.system.common.metrics;
+
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+@Component
+public class MethodMetricsRegistry {
+
+    private final ConcurrentMap<Method, MethodMetrics> metrics = new ConcurrentHashMap<>();
+
+    MethodMetrics forMethod(Method method) {
+        // Lookup of an already registered method takes no lock and allocates nothing
+        MethodMetrics existing = metrics.get(method);
+        return existing != null ? existing : metrics.computeIfAbsent(method, MethodMetrics::new);
+    }
+
+    public List<MethodMetricsDto> snapshot() {
+        return metrics.values().stream()
+                .map(MethodMetrics::toDto)
+                .sorted(Comparator.comparingDouble(MethodMetricsDto::totalMillis).reversed())
+                .toList();
+    }
+
+    public void reset() {
+        metrics.clear();
+    }
+}
@@ -0,0 +1,30 @@
+package com.sample.system.common.ratelimit;
+
+// For handlers that only learn the customer after binding the request body, where RateLimitFilter cannot see it
+public class CustomerRateLimiter {
+
+    private final RateLimiter limiter;
+
+    public CustomerRateLimiter(RateLimiter limiter) {
+        this.limiter = limiter;
+    }
+
+    public static CustomerRateLimiter unlimited() {
+        return new CustomerRateLimiter(null);
+    }
+
+    public void acquire(Long customerId) {
+        acquire(customerId, 1);
+    }
+
+    // Charges one permit per order, so a bulk request costs as much as the same orders sent one by one
+    public void acquire(Long customerId, int orders) {
+        if (limiter == null) {
+            return;
+        }
+        long waitNanos = limiter.tryAcquire("customer:" + customerId, orders);
+        if (waitNanos > 0) {
+            throw new RateLimitExceededException(waitNanos);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.sample.system.common.ratelimit;
+
+import com.sample.system.common.exception.BusinessException;
+import com.sample.system.common.exception.ErrorCode;
+import lombok.Getter;
+
+import java.util.concurrent.TimeUnit;
+
+@Getter
+public class RateLimitExceededException extends BusinessException {
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final long retryAfterSeconds;
+
+    public RateLimitExceededException(long waitNanos) {
+        super(ErrorCode.TOO_MANY_REQUESTS);
+        this.retryAfterSeconds = toRetryAfterSeconds(waitNanos);
+    }
+
+    // Retry-After only carries whole seconds, so round up rather than invite a retry that is still too early
+    static long toRetryAfterSeconds(long waitNanos) {
+        return Math.max(1, (waitNanos + NANOS_PER_SECOND - 1) / NANOS_PER_SECOND);
+    }
+}
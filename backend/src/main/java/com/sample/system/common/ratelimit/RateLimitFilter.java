@@ -0,0 +1,99 @@
+package com.sample.system.common.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sample.system.common.exception.ErrorCode;
+import com.sample.system.common.exception.ErrorResponse;
+import jakarta.servlet.*;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+
+@Slf4j
+public class RateLimitFilter implements Filter {
+
+    private static final String CORRELATION_ID_HEADER = "X-Correlation-ID";
+    private static final String CUSTOMER_ID_PARAMETER = "customerId";
+
+    // An empty method set covers every method on the path; excluded paths are skipped only on an exact match
+    public record Route(String path, Set<String> methods, Set<String> excludedPaths, RateLimiter limiter) {
+
+        boolean matches(String method, String uri) {
+            return (methods.isEmpty() || methods.contains(method))
+                    && uri.startsWith(path) && (uri.length() == path.length() || uri.charAt(path.length()) == '/')
+                    && !excludedPaths.contains(uri);
+        }
+    }
+
+    private final List<Route> routes;
+    private final ObjectMapper objectMapper;
+
+    public RateLimitFilter(List<Route> routes, ObjectMapper objectMapper) {
+        this.routes = List.copyOf(routes);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+
+        HttpServletRequest httpRequest = (HttpServletRequest) request;
+        Route route = findRoute(httpRequest.getMethod(), httpRequest.getRequestURI());
+        if (route == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        String client = resolveClient(httpRequest);
+        long waitNanos = route.limiter().tryAcquire(client);
+        if (waitNanos == 0) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        reject(httpRequest, (HttpServletResponse) response, route, client, waitNanos);
+    }
+
+    private Route findRoute(String method, String uri) {
+        for (Route route : routes) {
+            if (route.matches(method, uri)) {
+                return route;
+            }
+        }
+        return null;
+    }
+
+    // Only reads select their customer by parameter; on other methods it is an arbitrary value the handler
+    // ignores and would hand out a fresh bucket per request. The address is the real client once
+    // server.forward-headers-strategy has applied X-Forwarded-For
+    private String resolveClient(HttpServletRequest request) {
+        String customerId = request.getParameter(CUSTOMER_ID_PARAMETER);
+        if (HttpMethod.GET.matches(request.getMethod()) && customerId != null && !customerId.isBlank()) {
+            return "customer:" + customerId;
+        }
+        return "address:" + request.getRemoteAddr();
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, Route route, String client,
+                        long waitNanos) throws IOException {
+        long retryAfterSeconds = RateLimitExceededException.toRetryAfterSeconds(waitNanos);
+        log.debug("Request rate limited: route={}, client={}, retryAfter={}s", route.path(), client, retryAfterSeconds);
+
+        ErrorResponse errorResponse = ErrorResponse.of(
+                ErrorCode.TOO_MANY_REQUESTS,
+                request.getRequestURI(),
+                response.getHeader(CORRELATION_ID_HEADER)
+        );
+
+        response.setStatus(ErrorCode.TOO_MANY_REQUESTS.getHttpStatus().value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), errorResponse);
+    }
+}
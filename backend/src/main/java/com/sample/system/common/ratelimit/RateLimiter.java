@@ -0,0 +1,55 @@
+package com.sample.system.common.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+public class RateLimiter {
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final LongSupplier nanoClock;
+    private final Cache<String, TokenBucket> buckets;
+    private final Function<String, TokenBucket> newBucket;
+
+    public RateLimiter(int capacity, double refillPerSecond, Duration idleTimeout, long maximumBuckets) {
+        this(capacity, refillPerSecond, idleTimeout, maximumBuckets, System::nanoTime);
+    }
+
+    RateLimiter(int capacity, double refillPerSecond, Duration idleTimeout, long maximumBuckets, LongSupplier nanoClock) {
+        if (capacity < 1 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("Rate limit needs a positive capacity and refill rate");
+        }
+        long nanosPerToken = Math.max(1, Math.round(NANOS_PER_SECOND / refillPerSecond));
+        long burstNanos = nanosPerToken * capacity;
+        this.nanoClock = nanoClock;
+        this.newBucket = client -> new TokenBucket(nanosPerToken, burstNanos);
+        // A bucket idle for longer than it takes to refill is full again, so evicting it changes nothing
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maximumBuckets)
+                .expireAfterAccess(Duration.ofNanos(Math.max(idleTimeout.toNanos(), burstNanos)))
+                .ticker(nanoClock::getAsLong)
+                .build();
+    }
+
+    // Returns 0 when the request is admitted, otherwise the nanos the client should wait before retrying
+    public long tryAcquire(String client) {
+        return tryAcquire(client, 1);
+    }
+
+    public long tryAcquire(String client, int permits) {
+        if (permits < 1) {
+            throw new IllegalArgumentException("Permits must be positive");
+        }
+        return buckets.get(client, newBucket).tryAcquire(nanoClock.getAsLong(), permits);
+    }
+
+    long bucketCount() {
+        buckets.cleanUp();
+        return buckets.estimatedSize();
+    }
+}
@@ -0,0 +1,41 @@
+package com.sample.system.common.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+class TokenBucket {
+
+    private final long nanosPerToken;
+    private final long burstNanos;
+
+    // The instant at which the bucket is full again; tokens left = (burstNanos - (fullAt - now)) / nanosPerToken
+    private final AtomicLong fullAt = new AtomicLong(Long.MIN_VALUE);
+
+    TokenBucket(long nanosPerToken, long burstNanos) {
+        this.nanosPerToken = nanosPerToken;
+        this.burstNanos = burstNanos;
+    }
+
+    // Returns 0 when a token was taken, otherwise the nanos until the next one is available
+    long tryAcquire(long now) {
+        return tryAcquire(now, 1);
+    }
+
+    // Returns 0 when the permits were taken, otherwise the nanos until they are available
+    long tryAcquire(long now, int permits) {
+        long cost = nanosPerToken * permits;
+        while (true) {
+            long current = fullAt.get();
+            long start = Math.max(current, now);
+            // More permits than the burst are only granted from a full bucket, which then stays in debt until
+            // the refill has paid for them, so a large batch is admitted without raising the sustained rate
+            long wait = cost > burstNanos ? start - now : start + cost - now - burstNanos;
+            if (wait > 0) {
+                // A rejected request only reads, so a flood does not add CAS traffic on the bucket
+                return wait;
+            }
+            if (fullAt.compareAndSet(current, start + cost)) {
+                return 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.sample.system.config;
+
+import com.sample.system.infrastructure.external.AiClientProperties;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.net.http.HttpClient;
+import java.util.concurrent.Executors;
+
+@Configuration
+@EnableConfigurationProperties(AiClientProperties.class)
+public class AiClientConfig {
+
+    @Bean
+    public HttpClient aiHttpClient(AiClientProperties properties, Environment environment) {
+        HttpClient.Builder builder = HttpClient.newBuilder()
+                .connectTimeout(properties.connectTimeout());
+        if (Threading.VIRTUAL.isActive(environment)) {
+            // Response handling and the recommendation callbacks chained on it run on virtual threads too
+            builder.executor(Executors.newVirtualThreadPerTaskExecutor());
+        }
+        return builder.build();
+    }
+}
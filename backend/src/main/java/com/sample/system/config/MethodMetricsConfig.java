@@ -0,0 +1,31 @@
+package com.sample.system.config;
+
+import com.sample.system.common.metrics.MethodMetricsInterceptor;
+import com.sample.system.common.metrics.MethodMetricsRegistry;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.aspectj.AspectJExpressionPointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.util.function.SingletonSupplier;
+
+@Configuration
+public class MethodMetricsConfig {
+
+    private static final String APPLICATION_AND_DOMAIN_LAYERS =
+            "within(com.sample.system.application..*) || within(com.sample.system.domain..*)";
+
+    // Static and infrastructure-role because the auto-proxy creator instantiates advisors while post-processors
+    // are still being registered; the registry is looked up on first call so it stays an ordinary bean
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor methodMetricsAdvisor(ObjectProvider<MethodMetricsRegistry> methodMetricsRegistry) {
+        AspectJExpressionPointcut pointcut = new AspectJExpressionPointcut();
+        pointcut.setExpression(APPLICATION_AND_DOMAIN_LAYERS);
+        return new DefaultPointcutAdvisor(pointcut,
+                new MethodMetricsInterceptor(SingletonSupplier.of(methodMetricsRegistry::getObject)));
+    }
+}
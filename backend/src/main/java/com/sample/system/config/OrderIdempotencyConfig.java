@@ -0,0 +1,27 @@
+package com.sample.system.config;
+
+import com.sample.system.application.order.OrderIdempotencyService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+import java.time.Duration;
+
+@Configuration
+public class OrderIdempotencyConfig implements SchedulingConfigurer {
+
+    private final OrderIdempotencyService orderIdempotencyService;
+    private final Duration purgeInterval;
+
+    public OrderIdempotencyConfig(OrderIdempotencyService orderIdempotencyService,
+                                  @Value("${order.idempotency.purge-interval:10m}") Duration purgeInterval) {
+        this.orderIdempotencyService = orderIdempotencyService;
+        this.purgeInterval = purgeInterval;
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        registrar.addFixedDelayTask(orderIdempotencyService::purgeExpired, purgeInterval);
+    }
+}
@@ -0,0 +1,27 @@
+package com.sample.system.config;
+
+import com.sample.system.infrastructure.outbox.OrderOutboxProperties;
+import com.sample.system.infrastructure.outbox.OrderOutboxPublisher;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(OrderOutboxProperties.class)
+@RequiredArgsConstructor
+public class OrderOutboxConfig implements SchedulingConfigurer {
+
+    private final OrderOutboxProperties properties;
+    private final OrderOutboxPublisher orderOutboxPublisher;
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        if (properties.publisherEnabled()) {
+            registrar.addFixedDelayTask(orderOutboxPublisher::drain, properties.pollInterval());
+        }
+    }
+}
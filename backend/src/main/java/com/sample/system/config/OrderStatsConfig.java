@@ -0,0 +1,25 @@
+package com.sample.system.config;
+
+import com.sample.system.application.order.OrderStatsAccumulator;
+import com.sample.system.application.order.OrderStatsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+@Configuration
+@EnableConfigurationProperties(OrderStatsProperties.class)
+@RequiredArgsConstructor
+public class OrderStatsConfig implements SchedulingConfigurer {
+
+    private final OrderStatsProperties properties;
+    private final OrderStatsAccumulator orderStatsAccumulator;
+    private final OrderStatsService orderStatsService;
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        registrar.addFixedDelayTask(orderStatsAccumulator::flush, properties.flushInterval());
+        registrar.addCronTask(orderStatsService::reconcile, properties.reconcileCron());
+    }
+}
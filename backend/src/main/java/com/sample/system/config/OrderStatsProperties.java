@@ -0,0 +1,12 @@
+package com.sample.system.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "order.stats")
+public record OrderStatsProperties(
+        @DefaultValue("1s") Duration flushInterval,
+        @DefaultValue("0 0 3 * * *") String reconcileCron
+) {}
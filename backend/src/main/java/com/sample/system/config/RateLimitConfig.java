@@ -0,0 +1,54 @@
+package com.sample.system.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sample.system.common.ratelimit.CustomerRateLimiter;
+import com.sample.system.common.ratelimit.RateLimitFilter;
+import com.sample.system.common.ratelimit.RateLimiter;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+import java.util.Set;
+
+@Configuration
+@EnableConfigurationProperties(RateLimitProperties.class)
+public class RateLimitConfig {
+
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilter(RateLimitProperties properties, ObjectMapper objectMapper) {
+        List<RateLimitFilter.Route> routes = properties.routes().stream()
+                .map(route -> new RateLimitFilter.Route(
+                        route.path(),
+                        Set.copyOf(route.methods()),
+                        Set.copyOf(route.excludes()),
+                        new RateLimiter(
+                                route.capacity(),
+                                route.refillPerSecond(),
+                                properties.idleTimeout(),
+                                properties.maximumBuckets())))
+                .toList();
+
+        FilterRegistrationBean<RateLimitFilter> registrationBean = new FilterRegistrationBean<>();
+        registrationBean.setFilter(new RateLimitFilter(routes, objectMapper));
+        registrationBean.addUrlPatterns("/api/*");
+        // Runs after CorrelationIdFilter so rejected requests still carry a correlation id
+        registrationBean.setOrder(2);
+        registrationBean.setEnabled(properties.enabled() && !routes.isEmpty());
+        return registrationBean;
+    }
+
+    @Bean
+    public CustomerRateLimiter orderCreationRateLimiter(RateLimitProperties properties) {
+        RateLimitProperties.Limit limit = properties.orderCreation();
+        if (!properties.enabled() || limit == null) {
+            return CustomerRateLimiter.unlimited();
+        }
+        return new CustomerRateLimiter(new RateLimiter(
+                limit.capacity(),
+                limit.refillPerSecond(),
+                properties.idleTimeout(),
+                properties.maximumBuckets()));
+    }
+}
@@ -0,0 +1,22 @@
+package com.sample.system.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+@ConfigurationProperties(prefix = "rate-limit")
+public record RateLimitProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("10m") Duration idleTimeout,
+        @DefaultValue("100000") long maximumBuckets,
+        @DefaultValue List<Route> routes,
+        Limit orderCreation
+) {
+
+    public record Route(String path, @DefaultValue List<String> methods, @DefaultValue List<String> excludes,
+                        int capacity, double refillPerSecond) {}
+
+    public record Limit(int capacity, double refillPerSecond) {}
+}
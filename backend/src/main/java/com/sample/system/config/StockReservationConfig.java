@@ -0,0 +1,27 @@
+package com.sample.system.config;
+
+import com.sample.system.application.product.StockReservationSweeper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+import java.time.Duration;
+
+@Configuration
+public class StockReservationConfig implements SchedulingConfigurer {
+
+    private final StockReservationSweeper stockReservationSweeper;
+    private final Duration sweepInterval;
+
+    public StockReservationConfig(StockReservationSweeper stockReservationSweeper,
+                                  @Value("${product.stock-reservation.sweep-interval:1m}") Duration sweepInterval) {
+        this.stockReservationSweeper = stockReservationSweeper;
+        this.sweepInterval = sweepInterval;
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        registrar.addFixedDelayTask(stockReservationSweeper::releaseExpired, sweepInterval);
+    }
+}
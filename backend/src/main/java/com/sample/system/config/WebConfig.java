@@ -1,19 +1,26 @@
 package com.sample.system.config;
 
+import com.sample.system.application.order.OrderExportFormat;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.format.FormatterRegistry;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
+    @Override
+    public void addFormatters(FormatterRegistry registry) {
+        registry.addConverter(String.class, OrderExportFormat.class, OrderExportFormat::from);
+    }
+
     @Override
     public void addCorsMappings(CorsRegistry registry) {
         registry.addMapping("/api/**")
                 .allowedOrigins("http://localhost:3000", "http://localhost:5173")
                 .allowedMethods("GET", "POST", "PUT", "DELETE", "PATCH", "OPTIONS")
                 .allowedHeaders("*")
-                .exposedHeaders("X-Correlation-ID")
+                .exposedHeaders("X-Correlation-ID", "X-Next-Cursor", "Idempotent-Replayed", "Retry-After")
                 .allowCredentials(true)
                 .maxAge(3600);
     }
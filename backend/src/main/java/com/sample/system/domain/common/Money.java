@@ -0,0 +1,80 @@
+package com.sample.system.domain.common;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+public record Money(long minorUnits) implements Comparable<Money> {
+
+    public static final int SCALE = 2;
+    public static final Money ZERO = new Money(0);
+    public static final int MAX_CHARS = 21;
+
+    public static Money ofMinor(long minorUnits) {
+        return minorUnits == 0 ? ZERO : new Money(minorUnits);
+    }
+
+    public static Money of(BigDecimal amount) {
+        // Throws ArithmeticException for amounts with more than two decimals or outside the long range
+        return ofMinor(amount.setScale(SCALE, RoundingMode.UNNECESSARY).unscaledValue().longValueExact());
+    }
+
+    public static Money parse(String amount) {
+        return of(new BigDecimal(amount));
+    }
+
+    public Money plus(Money other) {
+        return ofMinor(Math.addExact(minorUnits, other.minorUnits));
+    }
+
+    public Money minus(Money other) {
+        return ofMinor(Math.subtractExact(minorUnits, other.minorUnits));
+    }
+
+    public Money times(int quantity) {
+        return ofMinor(Math.multiplyExact(minorUnits, quantity));
+    }
+
+    public boolean isPositive() {
+        return minorUnits > 0;
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(minorUnits, other.minorUnits);
+    }
+
+    public int formatTo(char[] buffer) {
+        // Digits are produced from a non-positive value so Long.MIN_VALUE needs no special case
+        long value = minorUnits < 0 ? minorUnits : -minorUnits;
+        int length = 0;
+        for (int i = 0; i < SCALE; i++) {
+            buffer[length++] = (char) ('0' - value % 10);
+            value /= 10;
+        }
+        buffer[length++] = '.';
+        do {
+            buffer[length++] = (char) ('0' - value % 10);
+            value /= 10;
+        } while (value != 0);
+        if (minorUnits < 0) {
+            buffer[length++] = '-';
+        }
+
+        for (int left = 0, right = length - 1; left < right; left++, right--) {
+            char c = buffer[left];
+            buffer[left] = buffer[right];
+            buffer[right] = c;
+        }
+        return length;
+    }
+
+    @Override
+    public String toString() {
+        char[] buffer = new char[MAX_CHARS];
+        return new String(buffer, 0, formatTo(buffer));
+    }
+}
@@ -2,25 +2,32 @@ package com.sample.system.domain.order;
 
 import com.sample.system.common.exception.BusinessException;
 import com.sample.system.common.exception.ErrorCode;
+import com.sample.system.domain.common.Money;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+        @Index(name = "idx_orders_customer_created", columnList = "customer_id, created_at, id"),
+        @Index(name = "uk_orders_order_number", columnList = "order_number", unique = true)
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Order {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "orders_seq")
+    @SequenceGenerator(name = "orders_seq", sequenceName = "orders_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -37,11 +44,14 @@ public class Order {
     private OrderStatus status;
 
     @Column(nullable = false, precision = 10, scale = 2)
-    private BigDecimal totalAmount;
+    private Money totalAmount;
 
     @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<OrderItem> orderItems = new ArrayList<>();
 
+    @Version
+    private Long version;
+
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
@@ -53,15 +63,24 @@ public class Order {
         this.customerId = customerId;
         this.customerName = customerName;
         this.status = OrderStatus.PENDING;
-        this.totalAmount = BigDecimal.ZERO;
+        this.totalAmount = Money.ZERO;
         this.createdAt = LocalDateTime.now();
         this.updatedAt = LocalDateTime.now();
     }
 
     public void addOrderItem(OrderItem orderItem) {
-        orderItems.add(orderItem);
-        orderItem.setOrder(this);
-        recalculateTotalAmount();
+        attach(orderItem);
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void addOrderItems(Collection<OrderItem> newItems) {
+        if (orderItems instanceof ArrayList<OrderItem> list) {
+            list.ensureCapacity(list.size() + newItems.size());
+        }
+        for (OrderItem orderItem : newItems) {
+            attach(orderItem);
+        }
+        this.updatedAt = LocalDateTime.now();
     }
 
     public void confirm() {
@@ -92,17 +111,24 @@ public class Order {
         this.updatedAt = LocalDateTime.now();
     }
 
-    private void recalculateTotalAmount() {
-        this.totalAmount = orderItems.stream()
-                .map(OrderItem::calculateTotalPrice)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-        this.updatedAt = LocalDateTime.now();
+    private void attach(OrderItem orderItem) {
+        orderItems.add(orderItem);
+        orderItem.setOrder(this);
+        this.totalAmount = this.totalAmount.plus(orderItem.calculateTotalPrice());
     }
 
     public List<OrderItem> getOrderItems() {
         return Collections.unmodifiableList(orderItems);
     }
 
+    public Map<Long, Integer> quantitiesByProduct() {
+        Map<Long, Integer> quantities = new TreeMap<>();
+        for (OrderItem orderItem : orderItems) {
+            quantities.merge(orderItem.getProductId(), orderItem.getQuantity(), Integer::sum);
+        }
+        return quantities;
+    }
+
     public boolean isPending() {
         return this.status == OrderStatus.PENDING;
     }
@@ -0,0 +1,55 @@
+package com.sample.system.domain.order;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.sample.system.domain.common.Money;
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record OrderEvent(
+        Type type,
+        Long orderId,
+        String orderNumber,
+        Long customerId,
+        String customerName,
+        OrderStatus previousStatus,
+        OrderStatus status,
+        Money totalAmount,
+        Integer itemCount,
+        LocalDateTime occurredAt
+) {
+    public enum Type {
+        CREATED,
+        STATUS_CHANGED
+    }
+
+    public static OrderEvent created(Order order) {
+        return OrderEvent.builder()
+                .type(Type.CREATED)
+                .orderId(order.getId())
+                .orderNumber(order.getOrderNumber())
+                .customerId(order.getCustomerId())
+                .customerName(order.getCustomerName())
+                .status(order.getStatus())
+                .totalAmount(order.getTotalAmount())
+                .itemCount(order.getOrderItems().size())
+                .occurredAt(order.getCreatedAt())
+                .build();
+    }
+
+    public static OrderEvent statusChanged(Long orderId, Long customerId, Money totalAmount,
+                                           OrderStatus previousStatus, OrderStatus status,
+                                           LocalDateTime occurredAt) {
+        return OrderEvent.builder()
+                .type(Type.STATUS_CHANGED)
+                .orderId(orderId)
+                .customerId(customerId)
+                .totalAmount(totalAmount)
+                .previousStatus(previousStatus)
+                .status(status)
+                .occurredAt(occurredAt)
+                .build();
+    }
+}
@@ -1,12 +1,11 @@
 package com.sample.system.domain.order;
 
+import com.sample.system.domain.common.Money;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
-import java.math.BigDecimal;
-
 @Entity
 @Table(name = "order_items")
 @Getter
@@ -14,7 +13,8 @@ import java.math.BigDecimal;
 public class OrderItem {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_items_seq")
+    @SequenceGenerator(name = "order_items_seq", sequenceName = "order_items_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -27,13 +27,13 @@ public class OrderItem {
     private Integer quantity;
 
     @Column(nullable = false, precision = 10, scale = 2)
-    private BigDecimal unitPrice;
+    private Money unitPrice;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "order_id", nullable = false)
     private Order order;
 
-    public OrderItem(Long productId, String productName, Integer quantity, BigDecimal unitPrice) {
+    public OrderItem(Long productId, String productName, Integer quantity, Money unitPrice) {
         validateQuantity(quantity);
         validateUnitPrice(unitPrice);
 
@@ -47,8 +47,8 @@ public class OrderItem {
         this.order = order;
     }
 
-    public BigDecimal calculateTotalPrice() {
-        return unitPrice.multiply(BigDecimal.valueOf(quantity));
+    public Money calculateTotalPrice() {
+        return unitPrice.times(quantity);
     }
 
     private void validateQuantity(Integer quantity) {
@@ -57,8 +57,8 @@ public class OrderItem {
         }
     }
 
-    private void validateUnitPrice(BigDecimal unitPrice) {
-        if (unitPrice == null || unitPrice.compareTo(BigDecimal.ZERO) <= 0) {
+    private void validateUnitPrice(Money unitPrice) {
+        if (unitPrice == null || !unitPrice.isPositive()) {
             throw new IllegalArgumentException("Unit price must be greater than 0");
         }
     }
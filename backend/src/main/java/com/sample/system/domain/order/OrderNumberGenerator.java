@@ -0,0 +1,5 @@
+package com.sample.system.domain.order;
+
+public interface OrderNumberGenerator {
+    String nextOrderNumber();
+}
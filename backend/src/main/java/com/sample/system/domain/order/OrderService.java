@@ -2,10 +2,11 @@ package com.sample.system.domain.order;
 
 import com.sample.system.common.exception.BusinessException;
 import com.sample.system.common.exception.ErrorCode;
+import com.sample.system.domain.common.Money;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.List;
 
 @Slf4j
@@ -18,15 +19,16 @@ public class OrderService {
 
         Order order = new Order(orderNumber, customerId, customerName);
 
+        List<OrderItem> orderItems = new ArrayList<>(itemDataList.size());
         for (OrderItemData itemData : itemDataList) {
-            OrderItem orderItem = new OrderItem(
+            orderItems.add(new OrderItem(
                     itemData.productId(),
                     itemData.productName(),
                     itemData.quantity(),
                     itemData.unitPrice()
-            );
-            order.addOrderItem(orderItem);
+            ));
         }
+        order.addOrderItems(orderItems);
 
         log.info("Order created: orderNumber={}, customerId={}, totalAmount={}",
                 orderNumber, customerId, order.getTotalAmount());
@@ -65,10 +67,8 @@ public class OrderService {
         log.info("Order delivered: orderNumber={}", order.getOrderNumber());
     }
 
-    public BigDecimal calculateOrderTotal(Order order) {
-        return order.getOrderItems().stream()
-                .map(OrderItem::calculateTotalPrice)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    public Money calculateOrderTotal(Order order) {
+        return order.getTotalAmount();
     }
 
     private void validateOrderItems(List<OrderItemData> itemDataList) {
@@ -84,6 +84,6 @@ public class OrderService {
             Long productId,
             String productName,
             Integer quantity,
-            BigDecimal unitPrice
+            Money unitPrice
     ) {}
 }
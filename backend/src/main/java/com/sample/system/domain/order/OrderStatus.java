@@ -1,5 +1,11 @@
 package com.sample.system.domain.order;
 
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
 public enum OrderStatus {
     PENDING,
     CONFIRMED,
@@ -7,6 +13,20 @@ public enum OrderStatus {
     DELIVERED,
     CANCELLED;
 
+    private static final Map<OrderStatus, Set<OrderStatus>> SOURCES = new EnumMap<>(OrderStatus.class);
+
+    static {
+        for (OrderStatus target : values()) {
+            EnumSet<OrderStatus> sources = EnumSet.noneOf(OrderStatus.class);
+            for (OrderStatus source : values()) {
+                if (source.canTransitionTo(target)) {
+                    sources.add(source);
+                }
+            }
+            SOURCES.put(target, Collections.unmodifiableSet(sources));
+        }
+    }
+
     public boolean canTransitionTo(OrderStatus newStatus) {
         return switch (this) {
             case PENDING -> newStatus == CONFIRMED || newStatus == CANCELLED;
@@ -15,4 +35,9 @@ public enum OrderStatus {
             case DELIVERED, CANCELLED -> false;
         };
     }
+
+    // Statuses an order may legally move from to reach this one, derived from canTransitionTo
+    public Set<OrderStatus> sourceStatuses() {
+        return SOURCES.get(this);
+    }
 }
@@ -1,8 +1,90 @@
 package com.sample.system.domain.product;
 
+import com.sample.system.common.exception.BusinessException;
+import com.sample.system.common.exception.ErrorCode;
+import com.sample.system.infrastructure.persistence.product.ProductRepository;
+import com.sample.system.infrastructure.persistence.product.StockReservation;
+import com.sample.system.infrastructure.persistence.product.StockReservationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+@Slf4j
 @Service
+@RequiredArgsConstructor
 public class ProductService {
-    // Placeholder for product business logic
+
+    private final ProductRepository productRepository;
+    private final StockReservationRepository stockReservationRepository;
+
+    // Returns the id the order transaction confirms; until then the decrement is recorded as a reservation
+    @Transactional(propagation = Propagation.MANDATORY)
+    public String reserveStock(Map<Long, Integer> quantitiesByProduct) {
+        // Ascending product id on every path, so two multi-item orders can never wait on each other's rows
+        for (Map.Entry<Long, Integer> entry : new TreeMap<>(quantitiesByProduct).entrySet()) {
+            Long productId = entry.getKey();
+            int quantity = entry.getValue();
+            if (quantity <= 0) {
+                throw new BusinessException(ErrorCode.VALIDATION_ERROR, "Quantity must be positive: " + productId);
+            }
+
+            if (productRepository.decreaseStock(productId, quantity) == 0) {
+                // Earlier decrements of this call are undone by the caller's transaction rolling back
+                if (!productRepository.existsById(productId)) {
+                    throw new BusinessException(ErrorCode.PRODUCT_NOT_FOUND, productId);
+                }
+                log.debug("Stock reservation rejected: productId={}, quantity={}", productId, quantity);
+                throw new BusinessException(ErrorCode.INSUFFICIENT_STOCK, productId);
+            }
+        }
+
+        String reservationId = UUID.randomUUID().toString();
+        LocalDateTime reservedAt = LocalDateTime.now();
+        List<StockReservation> lines = new ArrayList<>(quantitiesByProduct.size());
+        for (Map.Entry<Long, Integer> entry : new TreeMap<>(quantitiesByProduct).entrySet()) {
+            lines.add(new StockReservation(reservationId, entry.getKey(), entry.getValue(), reservedAt));
+        }
+        stockReservationRepository.saveAll(lines);
+        return reservationId;
+    }
+
+    // Whoever deletes the reservation owns the stock: false means it was already released and the order must not commit
+    @Transactional(propagation = Propagation.MANDATORY)
+    public boolean confirmReservation(String reservationId) {
+        return stockReservationRepository.deleteByReservationId(reservationId) > 0;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public boolean releaseReservation(String reservationId) {
+        List<StockReservation> lines = stockReservationRepository.findByReservationIdOrderByProductId(reservationId);
+        if (lines.isEmpty() || stockReservationRepository.deleteByReservationId(reservationId) == 0) {
+            return false;
+        }
+
+        Map<Long, Integer> quantities = new TreeMap<>();
+        for (StockReservation line : lines) {
+            quantities.merge(line.getProductId(), line.getQuantity(), Integer::sum);
+        }
+        releaseStock(quantities);
+        return true;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void releaseStock(Map<Long, Integer> quantitiesByProduct) {
+        for (Map.Entry<Long, Integer> entry : new TreeMap<>(quantitiesByProduct).entrySet()) {
+            if (productRepository.increaseStock(entry.getKey(), entry.getValue()) == 0) {
+                log.warn("Stock release skipped, product no longer exists: productId={}, quantity={}",
+                        entry.getKey(), entry.getValue());
+            }
+        }
+    }
 }
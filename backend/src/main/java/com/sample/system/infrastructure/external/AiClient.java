@@ -1,26 +1,30 @@
 package com.sample.system.infrastructure.external;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sample.system.common.exception.BusinessException;
+import com.sample.system.common.exception.ErrorCode;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
 
 @Slf4j
 @Component
 public class AiClient {
 
-    @Value("${ai.api.url:https://api.anthropic.com/v1}")
-    private String aiApiUrl;
+    private static final String ANTHROPIC_VERSION = "2023-06-01";
 
-    @Value("${ai.api.key:dummy_key}")
-    private String aiApiKey;
-
-    public String generateRecommendations(String prompt) {
-        log.debug("Calling AI API with prompt: {}", prompt);
-
-        String mockResponse = """
+    private static final String MOCK_RESPONSE = """
         {
           "recommendations": [
             {
@@ -45,11 +49,111 @@ public class AiClient {
         }
         """;
 
-        return mockResponse;
+    private final HttpClient httpClient;
+    private final AiClientProperties properties;
+    private final ObjectMapper objectMapper;
+    private final Semaphore bulkhead;
+    private final CircuitBreaker circuitBreaker;
+
+    public AiClient(HttpClient httpClient, AiClientProperties properties, ObjectMapper objectMapper) {
+        this.httpClient = httpClient;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.bulkhead = new Semaphore(properties.maxConcurrentRequests());
+        this.circuitBreaker = new CircuitBreaker(properties.failureThreshold(), properties.openDuration());
+    }
+
+    public CompletableFuture<String> generateRecommendations(String prompt) {
+        log.debug("Calling AI API with prompt: {}", prompt);
+
+        if (properties.mockEnabled()) {
+            return CompletableFuture.completedFuture(MOCK_RESPONSE);
+        }
+
+        if (!bulkhead.tryAcquire()) {
+            log.warn("AI API bulkhead full, rejecting call: maxConcurrentRequests={}",
+                    properties.maxConcurrentRequests());
+            return CompletableFuture.failedFuture(new BusinessException(ErrorCode.EXTERNAL_API_ERROR));
+        }
+        if (!circuitBreaker.tryAcquirePermission()) {
+            bulkhead.release();
+            log.warn("AI API circuit open, failing fast");
+            return CompletableFuture.failedFuture(new BusinessException(ErrorCode.EXTERNAL_API_ERROR));
+        }
+
+        try {
+            return httpClient.sendAsync(buildRequest(prompt), HttpResponse.BodyHandlers.ofString())
+                    .thenApply(this::extractText)
+                    .handle((text, error) -> {
+                        bulkhead.release();
+                        if (error == null) {
+                            circuitBreaker.onSuccess();
+                            return text;
+                        }
+                        circuitBreaker.onFailure();
+                        throw toBusinessException(error);
+                    });
+        } catch (RuntimeException e) {
+            bulkhead.release();
+            circuitBreaker.onFailure();
+            return CompletableFuture.failedFuture(toBusinessException(e));
+        }
     }
 
     public Map<String, Object> callAiApi(String model, String prompt) {
-        log.info("AI API call - Model: {}, URL: {}", model, aiApiUrl);
+        log.info("AI API call - Model: {}, URL: {}", model, properties.url());
         return Map.of("status", "success", "mockData", true);
     }
+
+    CircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    private HttpRequest buildRequest(String prompt) {
+        Map<String, Object> body = Map.of(
+                "model", properties.model(),
+                "max_tokens", properties.maxTokens(),
+                "messages", List.of(Map.of("role", "user", "content", prompt))
+        );
+
+        try {
+            return HttpRequest.newBuilder(URI.create(properties.url() + "/messages"))
+                    .timeout(properties.readTimeout())
+                    .header("Content-Type", "application/json")
+                    .header("x-api-key", properties.key())
+                    .header("anthropic-version", ANTHROPIC_VERSION)
+                    .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new BusinessException(ErrorCode.EXTERNAL_API_ERROR, e);
+        }
+    }
+
+    private String extractText(HttpResponse<String> response) {
+        if (response.statusCode() != 200) {
+            log.warn("AI API returned non-success status: status={}", response.statusCode());
+            throw new BusinessException(ErrorCode.EXTERNAL_API_ERROR);
+        }
+
+        try {
+            JsonNode content = objectMapper.readTree(response.body()).path("content");
+            for (JsonNode block : content) {
+                if ("text".equals(block.path("type").asText())) {
+                    return block.path("text").asText();
+                }
+            }
+        } catch (JsonProcessingException e) {
+            throw new BusinessException(ErrorCode.EXTERNAL_API_ERROR, e);
+        }
+        throw new BusinessException(ErrorCode.EXTERNAL_API_ERROR);
+    }
+
+    private BusinessException toBusinessException(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof BusinessException businessException) {
+            return businessException;
+        }
+        log.warn("AI API call failed: {}", cause.toString());
+        return new BusinessException(ErrorCode.EXTERNAL_API_ERROR, cause);
+    }
 }
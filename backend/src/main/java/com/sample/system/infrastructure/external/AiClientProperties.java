@@ -0,0 +1,20 @@
+package com.sample.system.infrastructure.external;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "ai.api")
+public record AiClientProperties(
+        @DefaultValue("https://api.anthropic.com/v1") String url,
+        @DefaultValue("dummy_key") String key,
+        @DefaultValue("claude-3-5-haiku-latest") String model,
+        @DefaultValue("1024") int maxTokens,
+        @DefaultValue("true") boolean mockEnabled,
+        @DefaultValue("2s") Duration connectTimeout,
+        @DefaultValue("10s") Duration readTimeout,
+        @DefaultValue("20") int maxConcurrentRequests,
+        @DefaultValue("5") int failureThreshold,
+        @DefaultValue("30s") Duration openDuration
+) {}
@@ -0,0 +1,70 @@
+package com.sample.system.infrastructure.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "order.outbox.sink", havingValue = "file")
+public class FileOrderEventSink implements OrderEventSink {
+
+    private final Path filePath;
+    private final ObjectMapper objectMapper;
+    // Not synchronized: a virtual thread blocked in force() inside a monitor would pin its carrier thread
+    private final ReentrantLock appendLock = new ReentrantLock();
+
+    public FileOrderEventSink(OrderOutboxProperties properties, ObjectMapper objectMapper) {
+        this.filePath = properties.filePath().toAbsolutePath();
+        this.objectMapper = objectMapper;
+        log.info("Order events will be appended to {}", filePath);
+    }
+
+    @Override
+    public void publish(List<OrderEventMessage> messages) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(messages.size() * 256);
+        try {
+            for (OrderEventMessage message : messages) {
+                buffer.write(objectMapper.writeValueAsBytes(message));
+                buffer.write('\n');
+            }
+
+            // Only the append itself is serialized; batches are encoded outside the lock
+            appendLock.lock();
+            try {
+                append(buffer.toByteArray());
+            } finally {
+                appendLock.unlock();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to append order events to " + filePath, e);
+        }
+    }
+
+    private void append(byte[] content) throws IOException {
+        if (filePath.getParent() != null) {
+            Files.createDirectories(filePath.getParent());
+        }
+        try (FileChannel channel = FileChannel.open(filePath,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer bytes = ByteBuffer.wrap(content);
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+            // Durable before the outbox rows are deleted
+            channel.force(false);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.sample.system.infrastructure.outbox;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+@ConditionalOnProperty(name = "order.outbox.sink", havingValue = "memory")
+public class InMemoryOrderEventSink implements OrderEventSink {
+
+    private final List<OrderEventMessage> published = new ArrayList<>();
+
+    @Override
+    public synchronized void publish(List<OrderEventMessage> messages) {
+        published.addAll(messages);
+    }
+
+    public synchronized List<OrderEventMessage> getPublished() {
+        return List.copyOf(published);
+    }
+
+    public synchronized void clear() {
+        published.clear();
+    }
+}
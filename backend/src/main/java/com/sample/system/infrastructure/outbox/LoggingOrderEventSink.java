@@ -0,0 +1,21 @@
+package com.sample.system.infrastructure.outbox;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "order.outbox.sink", havingValue = "log", matchIfMissing = true)
+public class LoggingOrderEventSink implements OrderEventSink {
+
+    @Override
+    public void publish(List<OrderEventMessage> messages) {
+        for (OrderEventMessage message : messages) {
+            log.info("Order event published: id={}, orderId={}, type={}, payload={}",
+                    message.id(), message.orderId(), message.type(), message.payload());
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.sample.system.infrastructure.outbox;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import com.sample.system.domain.order.OrderEvent;
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+
+@Builder
+public record OrderEventMessage(
+        Long id,
+        Long orderId,
+        OrderEvent.Type type,
+        @JsonRawValue String payload,
+        LocalDateTime createdAt
+) {
+    public static OrderEventMessage from(OrderOutboxEvent event) {
+        return OrderEventMessage.builder()
+                .id(event.getId())
+                .orderId(event.getOrderId())
+                .type(event.getEventType())
+                .payload(event.getPayload())
+                .createdAt(event.getCreatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,9 @@
+package com.sample.system.infrastructure.outbox;
+
+import java.util.List;
+
+public interface OrderEventSink {
+
+    // Messages arrive in outbox order; throwing keeps the whole batch for redelivery (at-least-once)
+    void publish(List<OrderEventMessage> messages);
+}
@@ -0,0 +1,15 @@
+package com.sample.system.infrastructure.outbox;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "order.outbox")
+public record OrderOutboxProperties(
+        @DefaultValue("true") boolean publisherEnabled,
+        @DefaultValue("100") int batchSize,
+        @DefaultValue("500ms") Duration pollInterval,
+        @DefaultValue("order-events.ndjson") Path filePath
+) {}
@@ -0,0 +1,61 @@
+package com.sample.system.infrastructure.outbox;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderOutboxPublisher {
+
+    private final OrderOutboxRepository orderOutboxRepository;
+    private final List<OrderEventSink> sinks;
+    private final TransactionTemplate transactionTemplate;
+    private final OrderOutboxProperties properties;
+
+    public int drain() {
+        int batchSize = Math.max(1, properties.batchSize());
+        int published = 0;
+        try {
+            int count;
+            do {
+                count = publishBatch(batchSize);
+                published += count;
+            } while (count == batchSize);
+        } catch (RuntimeException e) {
+            log.warn("Order outbox publish failed, batch will be retried: published={}", published, e);
+        }
+        return published;
+    }
+
+    private int publishBatch(int batchSize) {
+        // Row locks keep a second instance from draining the same head of the outbox concurrently
+        return transactionTemplate.execute(status -> {
+            List<OrderOutboxEvent> batch = orderOutboxRepository.findPublishBatch(PageRequest.ofSize(batchSize));
+            if (batch.isEmpty()) {
+                return 0;
+            }
+
+            List<OrderEventMessage> messages = new ArrayList<>(batch.size());
+            List<Long> ids = new ArrayList<>(batch.size());
+            for (OrderOutboxEvent event : batch) {
+                messages.add(OrderEventMessage.from(event));
+                ids.add(event.getId());
+            }
+
+            for (OrderEventSink sink : sinks) {
+                sink.publish(messages);
+            }
+            orderOutboxRepository.deleteAllByIdInBatch(ids);
+
+            log.debug("Order outbox batch published: size={}", batch.size());
+            return batch.size();
+        });
+    }
+}
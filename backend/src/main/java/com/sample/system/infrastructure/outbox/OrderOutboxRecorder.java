@@ -0,0 +1,33 @@
+package com.sample.system.infrastructure.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sample.system.domain.order.OrderEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+@RequiredArgsConstructor
+public class OrderOutboxRecorder {
+
+    private final OrderOutboxRepository orderOutboxRepository;
+    private final ObjectMapper objectMapper;
+
+    // Runs on the publishing thread so the row commits or rolls back together with the order change
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(OrderEvent event) {
+        orderOutboxRepository.save(new OrderOutboxEvent(event.orderId(), event.type(), toJson(event)));
+    }
+
+    private String toJson(OrderEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize order event: orderId=" + event.orderId(), e);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.sample.system.infrastructure.persistence.order;
+
+import com.sample.system.domain.common.Money;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "customer_order_stats")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CustomerOrderStats {
+
+    @Id
+    private Long customerId;
+
+    @Column(nullable = false)
+    private long orderCount;
+
+    // Total of the customer's orders that were not cancelled
+    @Column(nullable = false, precision = 15, scale = 2)
+    private Money lifetimeSpend;
+
+    public CustomerOrderStats(Long customerId, long orderCount, Money lifetimeSpend) {
+        this.customerId = customerId;
+        this.orderCount = orderCount;
+        this.lifetimeSpend = lifetimeSpend;
+    }
+}
@@ -0,0 +1,51 @@
+package com.sample.system.infrastructure.persistence.order;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Repository
+public interface CustomerOrderStatsRepository extends JpaRepository<CustomerOrderStats, Long> {
+
+    @Modifying
+    @Query(value = """
+            UPDATE customer_order_stats
+            SET order_count = order_count + :countDelta,
+                lifetime_spend = lifetime_spend + :spendDelta
+            WHERE customer_id = :customerId
+            """, nativeQuery = true)
+    int increment(@Param("customerId") Long customerId,
+                  @Param("countDelta") long countDelta,
+                  @Param("spendDelta") BigDecimal spendDelta);
+
+    @Modifying
+    @Query(value = """
+            UPDATE customer_order_stats
+            SET order_count = :orderCount, lifetime_spend = :lifetimeSpend
+            WHERE customer_id = :customerId
+            """, nativeQuery = true)
+    int overwrite(@Param("customerId") Long customerId,
+                  @Param("orderCount") long orderCount,
+                  @Param("lifetimeSpend") BigDecimal lifetimeSpend);
+
+    // [customer_id, actual count, actual spend, recorded count, recorded spend] for customers whose row disagrees with the orders
+    @Query(value = """
+            SELECT a.customer_id, a.order_count, a.lifetime_spend, s.order_count, s.lifetime_spend
+            FROM (SELECT customer_id,
+                         COUNT(*) AS order_count,
+                         SUM(CASE WHEN status <> 'CANCELLED' THEN total_amount ELSE 0 END) AS lifetime_spend
+                  FROM orders
+                  GROUP BY customer_id) a
+            LEFT JOIN customer_order_stats s ON s.customer_id = a.customer_id
+            WHERE s.customer_id IS NULL
+               OR s.order_count <> a.order_count
+               OR s.lifetime_spend <> a.lifetime_spend
+            ORDER BY a.customer_id
+            """, nativeQuery = true)
+    List<Object[]> findDrift();
+}
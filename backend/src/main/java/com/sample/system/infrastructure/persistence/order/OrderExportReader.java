@@ -0,0 +1,60 @@
+package com.sample.system.infrastructure.persistence.order;
+
+import com.sample.system.domain.order.OrderStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.hibernate.query.Query;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+@Repository
+public class OrderExportReader {
+
+    private static final String EXPORT_QUERY = """
+            SELECT new com.sample.system.infrastructure.persistence.order.OrderLineRow(
+                o.id, o.orderNumber, o.customerId, o.customerName, o.status, o.totalAmount,
+                o.createdAt, o.updatedAt, i.id, i.productId, i.productName, i.quantity, i.unitPrice)
+            FROM Order o LEFT JOIN o.orderItems i
+            WHERE (:customerId IS NULL OR o.customerId = :customerId)
+              AND (:status IS NULL OR o.status = :status)
+              AND (:startDate IS NULL OR o.createdAt >= :startDate)
+              AND (:endDate IS NULL OR o.createdAt <= :endDate)
+            ORDER BY o.id, i.id
+            """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${order.export.fetch-size:1000}")
+    private int fetchSize;
+
+    public long scan(Long customerId, OrderStatus status,
+                     LocalDateTime startDate, LocalDateTime endDate,
+                     Consumer<OrderLineRow> consumer) {
+        Query<OrderLineRow> query = entityManager.unwrap(Session.class)
+                .createQuery(EXPORT_QUERY, OrderLineRow.class)
+                .setParameter("customerId", customerId)
+                .setParameter("status", status)
+                .setParameter("startDate", startDate)
+                .setParameter("endDate", endDate)
+                .setFetchSize(fetchSize)
+                .setReadOnly(true);
+
+        long rowCount = 0;
+        try (ScrollableResults<OrderLineRow> rows = query.scroll(ScrollMode.FORWARD_ONLY)) {
+            while (rows.next()) {
+                consumer.accept(rows.get());
+                if (++rowCount % fetchSize == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
+        return rowCount;
+    }
+}
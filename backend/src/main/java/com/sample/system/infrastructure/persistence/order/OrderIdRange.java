@@ -0,0 +1,10 @@
+package com.sample.system.infrastructure.persistence.order;
+
+public record OrderIdRange(
+        Long minId,
+        Long maxId
+) {
+    public boolean isEmpty() {
+        return minId == null;
+    }
+}
@@ -0,0 +1,38 @@
+package com.sample.system.infrastructure.persistence.order;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface OrderIdempotencyKeyRepository extends JpaRepository<OrderIdempotencyKey, String> {
+
+    Optional<OrderIdempotencyKey> findByIdempotencyKeyAndExpiresAtAfter(String idempotencyKey, LocalDateTime now);
+
+    // A plain INSERT, never a merge: a concurrent request holding the same key must fail on the primary key
+    @Modifying
+    @Query(value = """
+            INSERT INTO order_idempotency_key (idempotency_key, request_hash, order_id, response, created_at, expires_at)
+            VALUES (:idempotencyKey, :requestHash, :orderId, :response, :createdAt, :expiresAt)
+            """, nativeQuery = true)
+    void insert(@Param("idempotencyKey") String idempotencyKey,
+                @Param("requestHash") String requestHash,
+                @Param("orderId") Long orderId,
+                @Param("response") String response,
+                @Param("createdAt") LocalDateTime createdAt,
+                @Param("expiresAt") LocalDateTime expiresAt);
+
+    // Clears an expired row the purge has not reached yet, so the key can be reused without a primary key violation
+    @Modifying
+    @Query("DELETE FROM OrderIdempotencyKey k WHERE k.idempotencyKey = :idempotencyKey AND k.expiresAt <= :now")
+    int deleteExpiredKey(@Param("idempotencyKey") String idempotencyKey, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM OrderIdempotencyKey k WHERE k.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
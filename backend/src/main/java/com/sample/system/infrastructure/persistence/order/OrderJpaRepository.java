@@ -1,11 +1,15 @@
 package com.sample.system.infrastructure.persistence.order;
 
 import com.sample.system.domain.order.Order;
+import com.sample.system.domain.order.OrderStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -24,4 +28,59 @@ public interface OrderJpaRepository extends JpaRepository<Order, Long>, OrderRep
 
     @Override
     List<Order> findAllByCustomerId(Long customerId);
+
+    @Override
+    @Query("""
+            SELECT new com.sample.system.infrastructure.persistence.order.OrderLineRow(
+                o.id, o.orderNumber, o.customerId, o.customerName, o.status, o.totalAmount,
+                o.createdAt, o.updatedAt, i.id, i.productId, i.productName, i.quantity, i.unitPrice)
+            FROM Order o LEFT JOIN o.orderItems i
+            WHERE o.id = :id
+            ORDER BY i.id
+            """)
+    List<OrderLineRow> findLinesById(@Param("id") Long id);
+
+    @Override
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE Order o
+            SET o.status = :target, o.updatedAt = :updatedAt, o.version = o.version + 1
+            WHERE o.id IN :ids
+              AND o.status = :source
+            """)
+    int transitionStatus(@Param("ids") Collection<Long> ids,
+                         @Param("source") OrderStatus source,
+                         @Param("target") OrderStatus target,
+                         @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Override
+    @Query("""
+            SELECT new com.sample.system.infrastructure.persistence.order.OrderTransitionRow(
+                o.id, o.customerId, o.totalAmount)
+            FROM Order o
+            WHERE o.id IN :ids
+              AND o.status = :status
+              AND o.updatedAt = :updatedAt
+            """)
+    List<OrderTransitionRow> findTransitionedAt(@Param("ids") Collection<Long> ids,
+                                                @Param("status") OrderStatus status,
+                                                @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Override
+    @Query("""
+            SELECT new com.sample.system.infrastructure.persistence.order.OrderStatusRow(o.id, o.status)
+            FROM Order o
+            WHERE o.id IN :ids
+            """)
+    List<OrderStatusRow> findStatusesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Override
+    @Query("""
+            SELECT new com.sample.system.infrastructure.persistence.order.ProductQuantityRow(
+                i.productId, SUM(i.quantity))
+            FROM OrderItem i
+            WHERE i.order.id IN :ids
+            GROUP BY i.productId
+            """)
+    List<ProductQuantityRow> sumQuantitiesByProduct(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,22 @@
+package com.sample.system.infrastructure.persistence.order;
+
+import com.sample.system.domain.common.Money;
+import com.sample.system.domain.order.OrderStatus;
+
+import java.time.LocalDateTime;
+
+public record OrderLineRow(
+        Long orderId,
+        String orderNumber,
+        Long customerId,
+        String customerName,
+        OrderStatus status,
+        Money totalAmount,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        Long itemId,
+        Long productId,
+        String productName,
+        Integer quantity,
+        Money unitPrice
+) {}
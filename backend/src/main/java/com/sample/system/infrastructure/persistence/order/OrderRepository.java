@@ -1,7 +1,10 @@
 package com.sample.system.infrastructure.persistence.order;
 
 import com.sample.system.domain.order.Order;
+import com.sample.system.domain.order.OrderStatus;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -10,5 +13,11 @@ public interface OrderRepository {
     Optional<Order> findById(Long id);
     Optional<Order> findByOrderNumber(String orderNumber);
     List<Order> findAllByCustomerId(Long customerId);
+    List<OrderLineRow> findLinesById(Long id);
+    int transitionStatus(Collection<Long> ids, OrderStatus source,
+                         OrderStatus target, LocalDateTime updatedAt);
+    List<OrderTransitionRow> findTransitionedAt(Collection<Long> ids, OrderStatus status, LocalDateTime updatedAt);
+    List<OrderStatusRow> findStatusesByIdIn(Collection<Long> ids);
+    List<ProductQuantityRow> sumQuantitiesByProduct(Collection<Long> ids);
     void delete(Order order);
 }
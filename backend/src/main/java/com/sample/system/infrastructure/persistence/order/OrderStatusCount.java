@@ -0,0 +1,26 @@
+package com.sample.system.infrastructure.persistence.order;
+
+import com.sample.system.domain.order.OrderStatus;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "order_status_count")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OrderStatusCount {
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    private OrderStatus status;
+
+    @Column(nullable = false)
+    private long orderCount;
+
+    public OrderStatusCount(OrderStatus status, long orderCount) {
+        this.status = status;
+        this.orderCount = orderCount;
+    }
+}
@@ -0,0 +1,26 @@
+package com.sample.system.infrastructure.persistence.order;
+
+import com.sample.system.domain.order.OrderStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface OrderStatusCountRepository extends JpaRepository<OrderStatusCount, OrderStatus> {
+
+    @Modifying
+    @Query("UPDATE OrderStatusCount c SET c.orderCount = c.orderCount + :delta WHERE c.status = :status")
+    int increment(@Param("status") OrderStatus status, @Param("delta") long delta);
+
+    @Modifying
+    @Query("UPDATE OrderStatusCount c SET c.orderCount = :orderCount WHERE c.status = :status")
+    int overwrite(@Param("status") OrderStatus status, @Param("orderCount") long orderCount);
+
+    // [status, count] straight from the order table, for reconciliation
+    @Query("SELECT o.status, COUNT(o) FROM Order o GROUP BY o.status")
+    List<Object[]> countOrdersByStatus();
+}
@@ -0,0 +1,8 @@
+package com.sample.system.infrastructure.persistence.order;
+
+import com.sample.system.domain.order.OrderStatus;
+
+public record OrderStatusRow(
+        Long id,
+        OrderStatus status
+) {}
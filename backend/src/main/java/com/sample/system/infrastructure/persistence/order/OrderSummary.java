@@ -0,0 +1,49 @@
+package com.sample.system.infrastructure.persistence.order;
+
+import com.sample.system.domain.common.Money;
+import com.sample.system.domain.order.OrderStatus;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// Denormalized list-view row, written only by OrderSummaryProjector and the rebuild command
+@Entity
+@Table(name = "order_summary", indexes = {
+        @Index(name = "idx_order_summary_customer_created", columnList = "customer_id, created_at, order_id"),
+        @Index(name = "idx_order_summary_customer_status_created", columnList = "customer_id, status, created_at, order_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OrderSummary {
+
+    @Id
+    private Long orderId;
+
+    @Column(nullable = false)
+    private String orderNumber;
+
+    @Column(nullable = false)
+    private Long customerId;
+
+    @Column(nullable = false)
+    private String customerName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private OrderStatus status;
+
+    @Column(nullable = false, precision = 10, scale = 2)
+    private Money totalAmount;
+
+    @Column(nullable = false)
+    private int itemCount;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
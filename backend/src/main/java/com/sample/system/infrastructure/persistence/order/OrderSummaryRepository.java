@@ -0,0 +1,111 @@
+package com.sample.system.infrastructure.persistence.order;
+
+import com.sample.system.domain.order.OrderStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OrderSummaryRepository extends JpaRepository<OrderSummary, Long> {
+
+    @Query("""
+            SELECT s FROM OrderSummary s
+            WHERE s.customerId = :customerId
+              AND (:status IS NULL OR s.status = :status)
+              AND (:startDate IS NULL OR s.createdAt >= :startDate)
+              AND (:endDate IS NULL OR s.createdAt <= :endDate)
+              AND (:cursorCreatedAt IS NULL
+                   OR s.createdAt < :cursorCreatedAt
+                   OR (s.createdAt = :cursorCreatedAt AND s.orderId < :cursorId))
+            ORDER BY s.createdAt DESC, s.orderId DESC
+            """)
+    List<OrderSummary> searchPage(@Param("customerId") Long customerId,
+                                  @Param("status") OrderStatus status,
+                                  @Param("startDate") LocalDateTime startDate,
+                                  @Param("endDate") LocalDateTime endDate,
+                                  @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                  @Param("cursorId") Long cursorId,
+                                  Pageable pageable);
+
+    // The projector and the rebuild may run on different instances at once, so rows are upserted rather than
+    // replaced: a row is only overwritten by a snapshot at least as new as the one it holds, and a writer that
+    // read the order before a later change can never bring back the older state
+    @Modifying
+    @Query(value = """
+            MERGE INTO order_summary s
+            USING (SELECT o.id, o.order_number, o.customer_id, o.customer_name, o.status, o.total_amount,
+                          COUNT(i.id) AS item_count, o.created_at, o.updated_at
+                   FROM orders o LEFT JOIN order_items i ON i.order_id = o.id
+                   WHERE o.id IN (:orderIds)
+                   GROUP BY o.id, o.order_number, o.customer_id, o.customer_name, o.status, o.total_amount,
+                            o.created_at, o.updated_at) src
+            ON s.order_id = src.id
+            WHEN MATCHED AND s.updated_at <= src.updated_at THEN
+                UPDATE SET order_number = src.order_number, customer_id = src.customer_id,
+                           customer_name = src.customer_name, status = src.status, total_amount = src.total_amount,
+                           item_count = src.item_count, updated_at = src.updated_at
+            WHEN NOT MATCHED THEN
+                INSERT (order_id, order_number, customer_id, customer_name, status, total_amount, item_count,
+                        created_at, updated_at)
+                VALUES (src.id, src.order_number, src.customer_id, src.customer_name, src.status, src.total_amount,
+                        src.item_count, src.created_at, src.updated_at)
+            """, nativeQuery = true)
+    int upsertFromOrders(@Param("orderIds") Collection<Long> orderIds);
+
+    @Modifying
+    @Query("""
+            DELETE FROM OrderSummary s
+            WHERE s.orderId IN :orderIds
+              AND NOT EXISTS (SELECT 1 FROM Order o WHERE o.id = s.orderId)
+            """)
+    int deleteOrphansByOrderIdIn(@Param("orderIds") Collection<Long> orderIds);
+
+    @Modifying
+    @Query(value = """
+            MERGE INTO order_summary s
+            USING (SELECT o.id, o.order_number, o.customer_id, o.customer_name, o.status, o.total_amount,
+                          COUNT(i.id) AS item_count, o.created_at, o.updated_at
+                   FROM orders o LEFT JOIN order_items i ON i.order_id = o.id
+                   WHERE o.id BETWEEN :fromId AND :toId
+                   GROUP BY o.id, o.order_number, o.customer_id, o.customer_name, o.status, o.total_amount,
+                            o.created_at, o.updated_at) src
+            ON s.order_id = src.id
+            WHEN MATCHED AND s.updated_at <= src.updated_at THEN
+                UPDATE SET order_number = src.order_number, customer_id = src.customer_id,
+                           customer_name = src.customer_name, status = src.status, total_amount = src.total_amount,
+                           item_count = src.item_count, updated_at = src.updated_at
+            WHEN NOT MATCHED THEN
+                INSERT (order_id, order_number, customer_id, customer_name, status, total_amount, item_count,
+                        created_at, updated_at)
+                VALUES (src.id, src.order_number, src.customer_id, src.customer_name, src.status, src.total_amount,
+                        src.item_count, src.created_at, src.updated_at)
+            """, nativeQuery = true)
+    int upsertFromOrderRange(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    @Modifying
+    @Query("""
+            DELETE FROM OrderSummary s
+            WHERE s.orderId BETWEEN :fromId AND :toId
+              AND NOT EXISTS (SELECT 1 FROM Order o WHERE o.id = s.orderId)
+            """)
+    int deleteOrphansInOrderIdRange(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    // Orders created after the range was read are projected above it, so only rows without an order go
+    @Modifying
+    @Query("""
+            DELETE FROM OrderSummary s
+            WHERE (s.orderId < :fromId OR s.orderId > :toId)
+              AND NOT EXISTS (SELECT 1 FROM Order o WHERE o.id = s.orderId)
+            """)
+    int deleteOrphansOutsideOrderIdRange(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    @Query("SELECT new com.sample.system.infrastructure.persistence.order.OrderIdRange(MIN(o.id), MAX(o.id)) FROM Order o")
+    OrderIdRange findOrderIdRange();
+}
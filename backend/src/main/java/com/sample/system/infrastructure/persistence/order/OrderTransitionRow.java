@@ -0,0 +1,9 @@
+package com.sample.system.infrastructure.persistence.order;
+
+import com.sample.system.domain.common.Money;
+
+public record OrderTransitionRow(
+        Long id,
+        Long customerId,
+        Money totalAmount
+) {}
@@ -0,0 +1,6 @@
+package com.sample.system.infrastructure.persistence.order;
+
+public record ProductQuantityRow(
+        Long productId,
+        Long quantity
+) {}
@@ -0,0 +1,39 @@
+package com.sample.system.infrastructure.persistence.product;
+
+import com.sample.system.domain.product.Product;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ProductJpaRepository extends JpaRepository<Product, Long>, ProductRepository {
+
+    @Override
+    @Query("""
+            SELECT new com.sample.system.infrastructure.persistence.product.ProductRow(p.id, p.name, p.price)
+            FROM Product p
+            WHERE p.id IN :ids
+            """)
+    List<ProductRow> findRowsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // The stock check and the decrement are one statement, so the row lock lasts only as long as the UPDATE
+    @Override
+    @Modifying
+    @Query("""
+            UPDATE Product p
+            SET p.stock = p.stock - :quantity
+            WHERE p.id = :id
+              AND p.stock >= :quantity
+            """)
+    int decreaseStock(@Param("id") Long id, @Param("quantity") int quantity);
+
+    @Override
+    @Modifying
+    @Query("UPDATE Product p SET p.stock = p.stock + :quantity WHERE p.id = :id")
+    int increaseStock(@Param("id") Long id, @Param("quantity") int quantity);
+}
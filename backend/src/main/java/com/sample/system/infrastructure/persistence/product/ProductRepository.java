@@ -0,0 +1,16 @@
+package com.sample.system.infrastructure.persistence.product;
+
+import com.sample.system.domain.product.Product;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface ProductRepository {
+    Product save(Product product);
+    Optional<Product> findById(Long id);
+    boolean existsById(Long id);
+    List<ProductRow> findRowsByIdIn(Collection<Long> ids);
+    int decreaseStock(Long id, int quantity);
+    int increaseStock(Long id, int quantity);
+}
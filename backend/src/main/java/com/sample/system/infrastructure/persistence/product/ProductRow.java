@@ -0,0 +1,9 @@
+package com.sample.system.infrastructure.persistence.product;
+
+import java.math.BigDecimal;
+
+public record ProductRow(
+        Long id,
+        String name,
+        BigDecimal price
+) {}
@@ -0,0 +1,44 @@
+package com.sample.system.infrastructure.persistence.product;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// One line per product of a reservation. A reservation that outlives its order transaction marks stock
+// that was decremented but never ordered
+@Entity
+@Table(name = "stock_reservation", indexes = {
+        @Index(name = "idx_stock_reservation_reservation_id", columnList = "reservation_id"),
+        @Index(name = "idx_stock_reservation_reserved_at", columnList = "reserved_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StockReservation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "stock_reservation_seq")
+    @SequenceGenerator(name = "stock_reservation_seq", sequenceName = "stock_reservation_seq")
+    private Long id;
+
+    @Column(nullable = false, length = 36)
+    private String reservationId;
+
+    @Column(nullable = false)
+    private Long productId;
+
+    @Column(nullable = false)
+    private Integer quantity;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime reservedAt;
+
+    public StockReservation(String reservationId, Long productId, Integer quantity, LocalDateTime reservedAt) {
+        this.reservationId = reservationId;
+        this.productId = productId;
+        this.quantity = quantity;
+        this.reservedAt = reservedAt;
+    }
+}
@@ -0,0 +1,24 @@
+package com.sample.system.infrastructure.persistence.product;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface StockReservationRepository extends JpaRepository<StockReservation, Long> {
+
+    List<StockReservation> findByReservationIdOrderByProductId(String reservationId);
+
+    @Modifying
+    @Query("DELETE FROM StockReservation r WHERE r.reservationId = :reservationId")
+    int deleteByReservationId(@Param("reservationId") String reservationId);
+
+    @Query("SELECT DISTINCT r.reservationId FROM StockReservation r WHERE r.reservedAt < :before")
+    List<String> findReservationIdsReservedBefore(@Param("before") LocalDateTime before, Pageable pageable);
+}
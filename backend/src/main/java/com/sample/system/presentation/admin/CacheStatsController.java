@@ -0,0 +1,27 @@
+package com.sample.system.presentation.admin;
+
+import com.sample.system.common.cache.CacheStatsDto;
+import com.sample.system.common.cache.MonitoredCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@RestController
+@RequestMapping("/api/admin/caches")
+@RequiredArgsConstructor
+public class CacheStatsController {
+
+    private final List<MonitoredCache> caches;
+
+    @GetMapping
+    public ResponseEntity<List<CacheStatsDto>> getCacheStats() {
+        return ResponseEntity.ok(caches.stream()
+                .map(MonitoredCache::stats)
+                .collect(Collectors.toList()));
+    }
+}
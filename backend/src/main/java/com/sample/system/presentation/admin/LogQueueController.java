@@ -0,0 +1,24 @@
+package com.sample.system.presentation.admin;
+
+import com.sample.system.common.logging.LogQueueMonitor;
+import com.sample.system.common.logging.LogQueueStatsDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/log-queues")
+@RequiredArgsConstructor
+public class LogQueueController {
+
+    private final LogQueueMonitor logQueueMonitor;
+
+    @GetMapping
+    public ResponseEntity<List<LogQueueStatsDto>> getLogQueueStats() {
+        return ResponseEntity.ok(logQueueMonitor.stats());
+    }
+}
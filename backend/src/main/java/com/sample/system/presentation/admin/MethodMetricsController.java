@@ -0,0 +1,34 @@
+package com.sample.system.presentation.admin;
+
+import com.sample.system.common.metrics.MethodMetricsDto;
+import com.sample.system.common.metrics.MethodMetricsRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/admin/method-metrics")
+@RequiredArgsConstructor
+public class MethodMetricsController {
+
+    private final MethodMetricsRegistry methodMetricsRegistry;
+
+    @GetMapping
+    public ResponseEntity<List<MethodMetricsDto>> getMethodMetrics() {
+        return ResponseEntity.ok(methodMetricsRegistry.snapshot());
+    }
+
+    @DeleteMapping
+    public ResponseEntity<Void> resetMethodMetrics() {
+        log.info("Resetting method metrics");
+        methodMetricsRegistry.reset();
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,26 @@
+package com.sample.system.presentation.admin;
+
+import com.sample.system.application.order.OrderStatsReconciliationReport;
+import com.sample.system.application.order.OrderStatsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/admin/order-stats")
+@RequiredArgsConstructor
+public class OrderStatsAdminController {
+
+    private final OrderStatsService orderStatsService;
+
+    @PostMapping("/reconcile")
+    public ResponseEntity<OrderStatsReconciliationReport> reconcile() {
+        log.info("Received order stats reconcile request");
+
+        return ResponseEntity.ok(orderStatsService.reconcile());
+    }
+}
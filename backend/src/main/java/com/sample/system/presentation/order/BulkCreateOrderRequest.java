@@ -0,0 +1,34 @@
+package com.sample.system.presentation.order;
+
+import com.sample.system.application.order.CreateOrderCommand;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Builder
+public record BulkCreateOrderRequest(
+        @NotNull(message = "Orders are required")
+        @Size(min = 1, max = 1000, message = "Bulk request must contain between 1 and 1000 orders")
+        // Entries are validated per item by the service so one malformed order only fails its own slot
+        List<@NotNull CreateOrderRequest> orders
+) {
+    public List<CreateOrderCommand> toCommands() {
+        return this.orders.stream()
+                .map(CreateOrderRequest::toCommand)
+                .collect(Collectors.toList());
+    }
+
+    // Entries without a customer fail validation in the service and are never created, so they are not counted
+    public Map<Long, Integer> ordersPerCustomer() {
+        return this.orders.stream()
+                .map(CreateOrderRequest::customerId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toMap(Function.identity(), customerId -> 1, Integer::sum));
+    }
+}
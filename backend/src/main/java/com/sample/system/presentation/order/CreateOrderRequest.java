@@ -5,7 +5,6 @@ import jakarta.validation.Valid;
 import jakarta.validation.constraints.*;
 import lombok.Builder;
 
-import java.math.BigDecimal;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -28,7 +27,7 @@ public record CreateOrderRequest(
         return CreateOrderCommand.builder()
                 .customerId(this.customerId)
                 .customerName(this.customerName)
-                .orderItems(this.items.stream()
+                .orderItems(this.items == null ? null : this.items.stream()
                         .map(OrderItemRequest::toCommand)
                         .collect(Collectors.toList()))
                 .build();
@@ -40,24 +39,15 @@ public record CreateOrderRequest(
             @Positive(message = "Product ID must be positive")
             Long productId,
 
-            @NotBlank(message = "Product name is required")
-            @Size(max = 200, message = "Product name must not exceed 200 characters")
-            String productName,
-
             @NotNull(message = "Quantity is required")
             @Positive(message = "Quantity must be positive")
-            Integer quantity,
-
-            @NotNull(message = "Unit price is required")
-            @DecimalMin(value = "0.01", message = "Unit price must be greater than 0")
-            BigDecimal unitPrice
+            Integer quantity
     ) {
+        // Name and price come from the product catalog; values sent by older clients are ignored
         public CreateOrderCommand.OrderItemCommand toCommand() {
             return CreateOrderCommand.OrderItemCommand.builder()
                     .productId(this.productId)
-                    .productName(this.productName)
                     .quantity(this.quantity)
-                    .unitPrice(this.unitPrice)
                     .build();
         }
     }
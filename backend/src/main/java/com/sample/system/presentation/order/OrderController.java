@@ -1,15 +1,30 @@
 package com.sample.system.presentation.order;
 
+import com.sample.system.application.order.BulkOrderResult;
+import com.sample.system.application.order.IdempotentOrderResult;
 import com.sample.system.application.order.OrderApplicationService;
 import com.sample.system.application.order.OrderDto;
+import com.sample.system.application.order.OrderExportFormat;
+import com.sample.system.application.order.OrderIdempotencyService;
+import com.sample.system.application.order.OrderPage;
 import com.sample.system.application.order.OrderQuery;
+import com.sample.system.application.order.OrderSummaryDto;
+import com.sample.system.application.order.OrderTransitionResult;
+import com.sample.system.common.ratelimit.CustomerRateLimiter;
+import com.sample.system.domain.order.OrderStatus;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Slf4j
@@ -18,17 +33,54 @@ import java.util.List;
 @RequiredArgsConstructor
 public class OrderController {
 
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    private static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+
     private final OrderApplicationService orderApplicationService;
+    private final OrderIdempotencyService orderIdempotencyService;
+    private final CustomerRateLimiter orderCreationRateLimiter;
 
     @PostMapping
-    public ResponseEntity<OrderDto> createOrder(@Valid @RequestBody CreateOrderRequest request) {
-        log.info("Received create order request: customerId={}", request.customerId());
+    public ResponseEntity<OrderDto> createOrder(
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @Valid @RequestBody CreateOrderRequest request) {
+        log.info("Received create order request: customerId={}, idempotencyKey={}", request.customerId(), idempotencyKey);
+        orderCreationRateLimiter.acquire(request.customerId());
+
+        if (idempotencyKey == null) {
+            return ResponseEntity
+                    .status(HttpStatus.CREATED)
+                    .body(orderApplicationService.createOrder(request.toCommand()));
+        }
 
-        OrderDto orderDto = orderApplicationService.createOrder(request.toCommand());
+        IdempotentOrderResult result = orderIdempotencyService.createOrder(idempotencyKey, request.toCommand());
 
         return ResponseEntity
                 .status(HttpStatus.CREATED)
-                .body(orderDto);
+                .header(IDEMPOTENT_REPLAYED_HEADER, String.valueOf(result.replayed()))
+                .body(result.order());
+    }
+
+    @PostMapping("/bulk")
+    public ResponseEntity<List<BulkOrderResult>> createOrders(@Valid @RequestBody BulkCreateOrderRequest request) {
+        log.info("Received bulk create order request: size={}", request.orders().size());
+        request.ordersPerCustomer().forEach(orderCreationRateLimiter::acquire);
+
+        List<BulkOrderResult> results = orderApplicationService.createOrders(request.toCommands());
+
+        return ResponseEntity.ok(results);
+    }
+
+    @PostMapping("/transitions")
+    public ResponseEntity<OrderTransitionResult> transitionOrders(@Valid @RequestBody OrderTransitionRequest request) {
+        log.info("Received bulk transition request: targetStatus={}, size={}",
+                request.targetStatus(), request.orderIds().size());
+
+        OrderTransitionResult result = orderApplicationService.transitionOrders(
+                request.targetStatus(), request.orderIds());
+
+        return ResponseEntity.ok(result);
     }
 
     @GetMapping("/{orderId}")
@@ -41,16 +93,61 @@ public class OrderController {
     }
 
     @GetMapping
-    public ResponseEntity<List<OrderDto>> searchOrders(@RequestParam Long customerId) {
-        log.info("Received search orders request: customerId={}", customerId);
+    public ResponseEntity<List<OrderSummaryDto>> searchOrders(
+            @RequestParam Long customerId,
+            @RequestParam(required = false) OrderStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        log.info("Received search orders request: customerId={}, status={}", customerId, status);
 
         OrderQuery.SearchCriteria criteria = OrderQuery.SearchCriteria.builder()
                 .customerId(customerId)
+                .status(status)
+                .startDate(startDate)
+                .endDate(endDate)
+                .cursor(cursor)
+                .size(size)
+                .build();
+
+        OrderPage page = orderApplicationService.searchOrders(criteria);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.hasNext()) {
+            response.header(NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+
+        return response.body(page.orders());
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportOrders(
+            @RequestParam(defaultValue = "NDJSON") OrderExportFormat format,
+            @RequestParam(required = false) Long customerId,
+            @RequestParam(required = false) OrderStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate
+    ) {
+        log.info("Received export orders request: format={}, customerId={}, status={}", format, customerId, status);
+
+        OrderQuery.ExportCriteria criteria = OrderQuery.ExportCriteria.builder()
+                .customerId(customerId)
+                .status(status)
+                .startDate(startDate)
+                .endDate(endDate)
                 .build();
 
-        List<OrderDto> orders = orderApplicationService.searchOrders(criteria);
+        StreamingResponseBody body = out -> orderApplicationService.exportOrders(criteria, format, out);
 
-        return ResponseEntity.ok(orders);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("orders." + format.getFileExtension())
+                        .build()
+                        .toString())
+                .body(body);
     }
 
     @PostMapping("/{orderId}/confirm")
@@ -0,0 +1,35 @@
+package com.sample.system.presentation.order;
+
+import com.sample.system.application.order.CustomerOrderStatsDto;
+import com.sample.system.application.order.OrderStatsService;
+import com.sample.system.domain.order.OrderStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/order-stats")
+@RequiredArgsConstructor
+public class OrderStatsController {
+
+    private final OrderStatsService orderStatsService;
+
+    @GetMapping("/status")
+    public ResponseEntity<Map<OrderStatus, Long>> getStatusCounts() {
+        return ResponseEntity.ok(orderStatsService.getStatusCounts());
+    }
+
+    @GetMapping("/customers/{customerId}")
+    public ResponseEntity<CustomerOrderStatsDto> getCustomerStats(@PathVariable Long customerId) {
+        log.info("Received customer order stats request: customerId={}", customerId);
+
+        return ResponseEntity.ok(orderStatsService.getCustomerStats(customerId));
+    }
+}
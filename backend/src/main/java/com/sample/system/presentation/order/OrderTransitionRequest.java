@@ -0,0 +1,18 @@
+package com.sample.system.presentation.order;
+
+import com.sample.system.domain.order.OrderStatus;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record OrderTransitionRequest(
+        @NotNull(message = "Target status is required")
+        OrderStatus targetStatus,
+
+        @NotNull(message = "Order ids are required")
+        @Size(min = 1, max = 10000, message = "Transition request must contain between 1 and 10000 orders")
+        List<@NotNull Long> orderIds
+) {}
@@ -8,6 +8,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @RestController
@@ -18,15 +19,13 @@ public class RecommendationController {
     private final RecommendationApplicationService recommendationApplicationService;
 
     @GetMapping
-    public ResponseEntity<List<RecommendationDto>> getRecommendations(
+    public CompletableFuture<ResponseEntity<List<RecommendationDto>>> getRecommendations(
             @RequestParam Long customerId,
             @RequestParam(required = false) String orderHistory
     ) {
         log.info("Received recommendation request for customer: {}", customerId);
 
-        List<RecommendationDto> recommendations =
-                recommendationApplicationService.getRecommendations(customerId, orderHistory);
-
-        return ResponseEntity.ok(recommendations);
+        return recommendationApplicationService.getRecommendations(customerId, orderHistory)
+                .thenApply(ResponseEntity::ok);
     }
 }
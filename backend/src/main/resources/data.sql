@@ -0,0 +1,4 @@
+-- 데모용 상품 카탈로그 (id 1 ~ 100)
+INSERT INTO products (name, price, stock)
+SELECT CONCAT('Product ', X), 10.00 + MOD(X, 50), 100000
+FROM SYSTEM_RANGE(1, 100);
@@ -1,24 +1,55 @@
 package com.sample.system.application.order;
 
+import com.sample.system.application.product.ProductCatalog;
+import com.sample.system.application.product.ProductDto;
 import com.sample.system.common.exception.BusinessException;
 import com.sample.system.common.exception.ErrorCode;
+import com.sample.system.domain.common.Money;
 import com.sample.system.domain.order.Order;
+import com.sample.system.domain.order.OrderEvent;
+import com.sample.system.domain.order.OrderItem;
+import com.sample.system.domain.order.OrderNumberGenerator;
 import com.sample.system.domain.order.OrderService;
 import com.sample.system.domain.order.OrderStatus;
+import com.sample.system.domain.product.ProductService;
+import com.sample.system.infrastructure.persistence.order.OrderLineRow;
 import com.sample.system.infrastructure.persistence.order.OrderRepository;
+import com.sample.system.infrastructure.persistence.order.OrderStatusRow;
+import com.sample.system.infrastructure.persistence.order.OrderSummary;
+import com.sample.system.infrastructure.persistence.order.OrderSummaryRepository;
+import com.sample.system.infrastructure.persistence.order.OrderTransitionRow;
+import com.sample.system.infrastructure.persistence.order.ProductQuantityRow;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -28,9 +59,33 @@ class OrderApplicationServiceTest {
     @Mock
     private OrderService orderService;
 
+    @Mock
+    private ProductService productService;
+
+    @Mock
+    private ProductCatalog productCatalog;
+
+    @Mock
+    private OrderNumberGenerator orderNumberGenerator;
+
     @Mock
     private OrderRepository orderRepository;
 
+    @Mock
+    private OrderSummaryRepository orderSummaryRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private OrderCache orderCache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
     @InjectMocks
     private OrderApplicationService orderApplicationService;
 
@@ -43,14 +98,14 @@ class OrderApplicationServiceTest {
                 .orderItems(List.of(
                         CreateOrderCommand.OrderItemCommand.builder()
                                 .productId(1L)
-                                .productName("Book A")
                                 .quantity(2)
-                                .unitPrice(BigDecimal.valueOf(10.00))
                                 .build()
                 ))
                 .build();
 
-        Order mockOrder = new Order("ORD-TEST", 100L, "John Doe");
+        Order mockOrder = orderWithItem(1L, 2);
+        runTransactionCallbacks();
+        stubCatalog();
         when(orderService.createOrder(any(), any(), any(), any())).thenReturn(mockOrder);
         when(orderRepository.save(any(Order.class))).thenReturn(mockOrder);
 
@@ -59,35 +114,245 @@ class OrderApplicationServiceTest {
         assertThat(result).isNotNull();
         assertThat(result.customerId()).isEqualTo(100L);
         assertThat(result.customerName()).isEqualTo("John Doe");
-        verify(orderService).createOrder(any(), eq(100L), eq("John Doe"), any());
+        verify(orderService).createOrder(any(), eq(100L), eq("John Doe"), eq(List.of(
+                new OrderService.OrderItemData(1L, "Product 1", 2, Money.parse("12.50")))));
+        verify(productService).reserveStock(Map.of(1L, 2));
         verify(orderRepository).save(any(Order.class));
+        verify(eventPublisher).publishEvent(argThat((OrderEvent event) -> event.type() == OrderEvent.Type.CREATED));
+    }
+
+    @Test
+    @DisplayName("주문 생성 - 재고가 부족하면 주문을 저장하지 않음")
+    void createOrder_InsufficientStock_Fail() {
+        runTransactionCallbacks();
+        stubCatalog();
+        when(orderService.createOrder(any(), any(), any(), any())).thenReturn(orderWithItem(1L, 2));
+        doThrow(new BusinessException(ErrorCode.INSUFFICIENT_STOCK, 1L))
+                .when(productService).reserveStock(Map.of(1L, 2));
+
+        assertThatThrownBy(() -> orderApplicationService.createOrder(command(1L, 2)))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INSUFFICIENT_STOCK);
+
+        verify(orderRepository, never()).save(any());
+        verify(productService, never()).releaseReservation(any());
+    }
+
+    @Test
+    @DisplayName("주문 생성 - 주문 저장이 실패하면 확보한 재고를 되돌림")
+    void createOrder_SaveFailure_ReleasesStock() {
+        runTransactionCallbacks();
+        stubCatalog();
+        when(orderService.createOrder(any(), any(), any(), any())).thenReturn(orderWithItem(1L, 2));
+        when(orderRepository.save(any(Order.class))).thenThrow(new DataIntegrityViolationException("duplicate"));
+
+        assertThatThrownBy(() -> orderApplicationService.createOrder(command(1L, 2)))
+                .isInstanceOf(DataIntegrityViolationException.class);
+
+        verify(productService).reserveStock(Map.of(1L, 2));
+        verify(productService).releaseReservation("reservation-1");
+    }
+
+    @Test
+    @DisplayName("주문 생성 - 예약이 이미 회수됐으면 주문을 저장하지 않음")
+    void createOrder_ReservationReleased_Fail() {
+        runTransactionCallbacks();
+        stubCatalog();
+        when(orderService.createOrder(any(), any(), any(), any())).thenReturn(orderWithItem(1L, 2));
+        when(productService.confirmReservation("reservation-1")).thenReturn(false);
+
+        assertThatThrownBy(() -> orderApplicationService.createOrder(command(1L, 2)))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.STOCK_RESERVATION_EXPIRED);
+
+        verify(orderRepository, never()).save(any());
+        verify(productService).releaseReservation("reservation-1");
+    }
+
+    @Test
+    @DisplayName("주문 생성 - 카탈로그에 없는 상품이면 재고를 건드리지 않고 실패")
+    void createOrder_UnknownProduct_Fail() {
+        when(productCatalog.getAll(Set.of(1L, 404L))).thenReturn(Map.of(1L, product(1L)));
+
+        CreateOrderCommand command = CreateOrderCommand.builder()
+                .customerId(100L)
+                .customerName("John Doe")
+                .orderItems(List.of(
+                        CreateOrderCommand.OrderItemCommand.builder().productId(1L).quantity(1).build(),
+                        CreateOrderCommand.OrderItemCommand.builder().productId(404L).quantity(1).build()
+                ))
+                .build();
+
+        assertThatThrownBy(() -> orderApplicationService.createOrder(command))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.PRODUCT_NOT_FOUND);
+
+        verifyNoInteractions(orderService, productService);
+    }
+
+    @Test
+    @DisplayName("주문 일괄 생성 - 유효하지 않은 주문만 실패로 반환")
+    void createOrders_InvalidCommand_PartialFailure() {
+        CreateOrderCommand invalid = CreateOrderCommand.builder()
+                .customerName("John Doe")
+                .orderItems(List.of())
+                .build();
+        CreateOrderCommand valid = CreateOrderCommand.builder()
+                .customerId(100L)
+                .customerName("John Doe")
+                .orderItems(List.of(
+                        CreateOrderCommand.OrderItemCommand.builder()
+                                .productId(1L)
+                                .quantity(2)
+                                .build()
+                ))
+                .build();
+
+        runTransactionCallbacks();
+        stubCatalog();
+        when(orderService.createOrder(any(), any(), any(), any())).thenReturn(new Order("ORD-TEST", 100L, "John Doe"));
+        when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<BulkOrderResult> results = orderApplicationService.createOrders(List.of(invalid, valid));
+
+        assertThat(results).extracting(BulkOrderResult::success).containsExactly(false, true);
+        assertThat(results.get(0).errorCode()).isEqualTo(ErrorCode.VALIDATION_ERROR.getCode());
+        assertThat(results.get(1).orderNumber()).isEqualTo("ORD-TEST");
+        verify(orderService, times(1)).createOrder(any(), eq(100L), eq("John Doe"), any());
+    }
+
+    @Test
+    @DisplayName("주문 일괄 생성 - 재고가 부족한 주문만 실패로 반환")
+    void createOrders_InsufficientStock_PartialFailure() {
+        runTransactionCallbacks();
+        lenient().doThrow(new BusinessException(ErrorCode.INSUFFICIENT_STOCK, 2L))
+                .when(productService).reserveStock(Map.of(2L, 1));
+        stubCatalog();
+        when(orderService.createOrder(any(), any(), any(), any())).thenReturn(new Order("ORD-TEST", 100L, "John Doe"));
+        when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<BulkOrderResult> results = orderApplicationService.createOrders(List.of(command(1L, 3), command(2L, 1)));
+
+        assertThat(results).extracting(BulkOrderResult::success).containsExactly(true, false);
+        assertThat(results.get(1).errorCode()).isEqualTo(ErrorCode.INSUFFICIENT_STOCK.getCode());
+        verify(orderService, times(1)).createOrder(any(), any(), any(), any());
+        verify(productService, never()).releaseReservation(any());
+    }
+
+    @Test
+    @DisplayName("주문 일괄 생성 - 청크 저장 실패 시 건별로 재시도")
+    void createOrders_ChunkFailure_RetriesIndividually() {
+        CreateOrderCommand command = CreateOrderCommand.builder()
+                .customerId(100L)
+                .customerName("John Doe")
+                .orderItems(List.of(
+                        CreateOrderCommand.OrderItemCommand.builder()
+                                .productId(1L)
+                                .quantity(2)
+                                .build()
+                ))
+                .build();
+        Order first = new Order("ORD-1", 100L, "John Doe");
+        Order second = new Order("ORD-2", 100L, "John Doe");
+
+        runTransactionCallbacks();
+        stubCatalog();
+        when(orderService.createOrder(any(), any(), any(), any())).thenReturn(first, second, first, second);
+        when(orderRepository.save(first)).thenReturn(first);
+        when(orderRepository.save(second)).thenThrow(new DataIntegrityViolationException("duplicate"));
+        when(productService.reserveStock(Map.of(1L, 2))).thenReturn("reservation-1", "reservation-2");
+
+        List<BulkOrderResult> results = orderApplicationService.createOrders(List.of(command, command));
+
+        assertThat(results).extracting(BulkOrderResult::success).containsExactly(true, false);
+        assertThat(results.get(1).errorCode()).isEqualTo(ErrorCode.DATABASE_ERROR.getCode());
+        // Two reservations, the failed chunk, then one retry per order
+        verify(transactionTemplate, times(5)).execute(any());
+        verify(productService, times(2)).reserveStock(Map.of(1L, 2));
+        verify(productService).releaseReservation("reservation-2");
     }
 
     @Test
     @DisplayName("주문 조회 - 성공")
     void getOrder_Success() {
         Long orderId = 1L;
-        Order mockOrder = new Order("ORD-TEST", 100L, "John Doe");
-        when(orderRepository.findById(orderId)).thenReturn(Optional.of(mockOrder));
+        when(orderRepository.findLinesById(orderId)).thenReturn(List.of(
+                line(orderId, 10L, 2, "10.00"),
+                line(orderId, 11L, 1, "5.50")
+        ));
 
         OrderDto result = orderApplicationService.getOrder(orderId);
 
         assertThat(result).isNotNull();
         assertThat(result.customerId()).isEqualTo(100L);
-        verify(orderRepository).findById(orderId);
+        assertThat(result.orderItems()).hasSize(2);
+        assertThat(result.orderItems().get(0).totalPrice()).isEqualTo(Money.parse("20.00"));
+        verify(orderRepository).findLinesById(orderId);
+        verify(orderRepository, never()).findById(any());
+        verify(orderCache).put(result);
+    }
+
+    @Test
+    @DisplayName("주문 조회 - 캐시에 있으면 DB 조회 생략")
+    void getOrder_CacheHit_SkipsRepository() {
+        Long orderId = 1L;
+        OrderDto cached = OrderDto.fromLines(List.of(line(orderId, 10L, 2, "10.00"))).get(0);
+        when(orderCache.get(orderId)).thenReturn(Optional.of(cached));
+
+        OrderDto result = orderApplicationService.getOrder(orderId);
+
+        assertThat(result).isSameAs(cached);
+        verifyNoInteractions(orderRepository);
     }
 
     @Test
     @DisplayName("주문 조회 - 존재하지 않으면 실패")
     void getOrder_NotFound_Fail() {
         Long orderId = 999L;
-        when(orderRepository.findById(orderId)).thenReturn(Optional.empty());
+        when(orderRepository.findLinesById(orderId)).thenReturn(List.of());
 
         assertThatThrownBy(() -> orderApplicationService.getOrder(orderId))
                 .isInstanceOf(BusinessException.class)
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ORDER_NOT_FOUND);
 
-        verify(orderRepository).findById(orderId);
+        verify(orderRepository).findLinesById(orderId);
+    }
+
+    @Test
+    @DisplayName("주문 검색 - 다음 페이지가 있으면 커서 반환")
+    void searchOrders_HasNext_ReturnsCursor() {
+        LocalDateTime firstCreatedAt = LocalDateTime.of(2025, 1, 2, 0, 0);
+        OrderSummary first = summary(2L, firstCreatedAt);
+        OrderSummary second = summary(1L, LocalDateTime.of(2025, 1, 1, 0, 0));
+        when(orderSummaryRepository.searchPage(eq(100L), eq(OrderStatus.PENDING), any(), any(), any(), any(), any()))
+                .thenReturn(List.of(first, second));
+
+        OrderQuery.SearchCriteria criteria = OrderQuery.SearchCriteria.builder()
+                .customerId(100L)
+                .status(OrderStatus.PENDING)
+                .size(1)
+                .build();
+
+        OrderPage result = orderApplicationService.searchOrders(criteria);
+
+        assertThat(result.orders()).extracting(OrderSummaryDto::id).containsExactly(2L);
+        assertThat(result.hasNext()).isTrue();
+        assertThat(OrderCursor.decode(result.nextCursor())).isEqualTo(new OrderCursor(firstCreatedAt, 2L));
+    }
+
+    @Test
+    @DisplayName("주문 검색 - 잘못된 커서면 실패")
+    void searchOrders_InvalidCursor_Fail() {
+        OrderQuery.SearchCriteria criteria = OrderQuery.SearchCriteria.builder()
+                .customerId(100L)
+                .cursor("not-a-cursor")
+                .build();
+
+        assertThatThrownBy(() -> orderApplicationService.searchOrders(criteria))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.VALIDATION_ERROR);
+
+        verify(orderSummaryRepository, never()).searchPage(any(), any(), any(), any(), any(), any(), any());
     }
 
     @Test
@@ -95,6 +360,7 @@ class OrderApplicationServiceTest {
     void confirmOrder_Success() {
         Long orderId = 1L;
         Order mockOrder = new Order("ORD-TEST", 100L, "John Doe");
+        runTransactionCallbacks();
         when(orderRepository.findById(orderId)).thenReturn(Optional.of(mockOrder));
         when(orderRepository.save(any(Order.class))).thenReturn(mockOrder);
 
@@ -103,13 +369,17 @@ class OrderApplicationServiceTest {
         assertThat(result).isNotNull();
         verify(orderService).confirmOrder(mockOrder);
         verify(orderRepository).save(mockOrder);
+        verify(orderCache).putAfterCommit(result);
+        verify(eventPublisher).publishEvent(argThat((OrderEvent event) ->
+                event.type() == OrderEvent.Type.STATUS_CHANGED && event.previousStatus() == OrderStatus.PENDING));
     }
 
     @Test
     @DisplayName("주문 취소 - 성공")
     void cancelOrder_Success() {
         Long orderId = 1L;
-        Order mockOrder = new Order("ORD-TEST", 100L, "John Doe");
+        Order mockOrder = orderWithItem(7L, 3);
+        runTransactionCallbacks();
         when(orderRepository.findById(orderId)).thenReturn(Optional.of(mockOrder));
         when(orderRepository.save(any(Order.class))).thenReturn(mockOrder);
 
@@ -117,6 +387,149 @@ class OrderApplicationServiceTest {
 
         assertThat(result).isNotNull();
         verify(orderService).cancelOrder(mockOrder);
+        verify(productService).releaseStock(Map.of(7L, 3));
         verify(orderRepository).save(mockOrder);
     }
+
+    @Test
+    @DisplayName("주문 확정 - 버전 충돌 시 재시도하여 성공")
+    void confirmOrder_VersionConflict_Retries() {
+        Long orderId = 1L;
+        Order mockOrder = new Order("ORD-TEST", 100L, "John Doe");
+        when(transactionTemplate.execute(any()))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Order.class, orderId))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        when(orderRepository.findById(orderId)).thenReturn(Optional.of(mockOrder));
+        when(orderRepository.save(any(Order.class))).thenReturn(mockOrder);
+
+        OrderDto result = orderApplicationService.confirmOrder(orderId);
+
+        assertThat(result).isNotNull();
+        verify(transactionTemplate, times(2)).execute(any());
+        verify(orderService).confirmOrder(mockOrder);
+    }
+
+    @Test
+    @DisplayName("주문 확정 - 재시도 횟수를 넘기면 동시 수정 오류")
+    void confirmOrder_PersistentConflict_Fail() {
+        Long orderId = 1L;
+        when(transactionTemplate.execute(any()))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Order.class, orderId));
+
+        assertThatThrownBy(() -> orderApplicationService.confirmOrder(orderId))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.CONCURRENT_MODIFICATION);
+
+        verify(transactionTemplate, times(3)).execute(any());
+    }
+
+    @Test
+    @DisplayName("일괄 상태 변경 - 허용된 주문만 이동하고 나머지는 사유와 함께 거절")
+    void transitionOrders_PartiallyMoved() {
+        when(orderRepository.transitionStatus(eq(List.of(1L, 2L, 3L)), eq(OrderStatus.CONFIRMED),
+                eq(OrderStatus.SHIPPING), any())).thenReturn(1);
+        when(orderRepository.findTransitionedAt(eq(List.of(1L, 2L, 3L)), eq(OrderStatus.SHIPPING), any()))
+                .thenReturn(List.of(new OrderTransitionRow(1L, 100L, Money.parse("20.00"))));
+        when(orderRepository.findStatusesByIdIn(List.of(2L, 3L)))
+                .thenReturn(List.of(new OrderStatusRow(2L, OrderStatus.PENDING)));
+
+        OrderTransitionResult result = orderApplicationService.transitionOrders(
+                OrderStatus.SHIPPING, List.of(1L, 2L, 3L, 1L));
+
+        assertThat(result.transitioned()).containsExactly(1L);
+        assertThat(result.rejected()).containsExactly(
+                new OrderTransitionResult.Rejection(2L, OrderStatus.PENDING, "ORD002"),
+                new OrderTransitionResult.Rejection(3L, null, "ORD001"));
+        verify(orderCache).invalidateAfterCommit(eq(1L), any());
+        verify(eventPublisher).publishEvent(argThat((OrderEvent event) -> event.orderId().equals(1L)
+                && event.previousStatus() == OrderStatus.CONFIRMED
+                && event.status() == OrderStatus.SHIPPING));
+        verify(orderRepository, never()).findById(any());
+        verifyNoInteractions(productService);
+    }
+
+    @Test
+    @DisplayName("일괄 취소 - 취소된 주문의 수량을 상품별로 합산해 재고를 되돌림")
+    void transitionOrders_Cancelled_ReleasesStock() {
+        when(orderRepository.transitionStatus(eq(List.of(1L, 2L)), any(), eq(OrderStatus.CANCELLED), any()))
+                .thenReturn(2, 0);
+        when(orderRepository.findTransitionedAt(eq(List.of(1L, 2L)), eq(OrderStatus.CANCELLED), any()))
+                .thenReturn(List.of(
+                        new OrderTransitionRow(1L, 100L, Money.parse("20.00")),
+                        new OrderTransitionRow(2L, 100L, Money.parse("10.00"))));
+        when(orderRepository.sumQuantitiesByProduct(List.of(1L, 2L)))
+                .thenReturn(List.of(new ProductQuantityRow(5L, 4L), new ProductQuantityRow(3L, 1L)));
+
+        OrderTransitionResult result = orderApplicationService.transitionOrders(OrderStatus.CANCELLED, List.of(1L, 2L));
+
+        assertThat(result.transitioned()).containsExactly(1L, 2L);
+        verify(productService).releaseStock(Map.of(3L, 1, 5L, 4));
+    }
+
+    @Test
+    @DisplayName("일괄 상태 변경 - 들어올 수 있는 상태가 없으면 UPDATE 없이 전부 거절")
+    void transitionOrders_NoLegalSource_SkipsUpdate() {
+        when(orderRepository.findStatusesByIdIn(List.of(1L)))
+                .thenReturn(List.of(new OrderStatusRow(1L, OrderStatus.CONFIRMED)));
+
+        OrderTransitionResult result = orderApplicationService.transitionOrders(OrderStatus.PENDING, List.of(1L));
+
+        assertThat(result.transitioned()).isEmpty();
+        assertThat(result.rejected()).extracting(OrderTransitionResult.Rejection::errorCode).containsExactly("ORD002");
+        verify(orderRepository, never()).transitionStatus(anyCollection(), any(), any(), any());
+    }
+
+    private OrderLineRow line(Long orderId, Long itemId, int quantity, String unitPrice) {
+        LocalDateTime now = LocalDateTime.now();
+        return new OrderLineRow(orderId, "ORD-TEST", 100L, "John Doe", OrderStatus.PENDING, Money.parse("25.50"),
+                now, now, itemId, 1L, "Book A", quantity, Money.parse(unitPrice));
+    }
+
+    private OrderSummary summary(Long orderId, LocalDateTime createdAt) {
+        OrderSummary summary = mock(OrderSummary.class);
+        lenient().when(summary.getOrderId()).thenReturn(orderId);
+        lenient().when(summary.getCreatedAt()).thenReturn(createdAt);
+        lenient().when(summary.getStatus()).thenReturn(OrderStatus.PENDING);
+        return summary;
+    }
+
+    private void stubCatalog() {
+        when(productCatalog.getAll(anyCollection())).thenAnswer(invocation -> invocation.<Collection<Long>>getArgument(0)
+                .stream()
+                .collect(Collectors.toMap(Function.identity(), this::product)));
+    }
+
+    private ProductDto product(Long productId) {
+        return new ProductDto(productId, "Product " + productId, Money.parse("12.50"));
+    }
+
+    private Order orderWithItem(Long productId, int quantity) {
+        Order order = new Order("ORD-TEST", 100L, "John Doe");
+        order.addOrderItem(new OrderItem(productId, "Book A", quantity, Money.parse("10.00")));
+        return order;
+    }
+
+    private CreateOrderCommand command(Long productId, int quantity) {
+        return CreateOrderCommand.builder()
+                .customerId(100L)
+                .customerName("John Doe")
+                .orderItems(List.of(
+                        CreateOrderCommand.OrderItemCommand.builder()
+                                .productId(productId)
+                                .quantity(quantity)
+                                .build()
+                ))
+                .build();
+    }
+
+    private void runTransactionCallbacks() {
+        lenient().doAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null))
+                .when(transactionTemplate).execute(any());
+        lenient().doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        lenient().when(productService.reserveStock(any())).thenReturn("reservation-1");
+        lenient().when(productService.confirmReservation(any())).thenReturn(true);
+    }
 }
@@ -0,0 +1,99 @@
+package com.sample.system.application.order;
+
+import com.sample.system.domain.order.OrderStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("OrderCache 단위 테스트")
+class OrderCacheTest {
+
+    private final OrderCache orderCache = new OrderCache(100, Duration.ofMinutes(5), Duration.ofSeconds(30));
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("늦게 도착한 이전 스냅샷은 최신 값을 덮어쓰지 않음")
+    void put_OlderSnapshot_KeepsNewer() {
+        LocalDateTime now = LocalDateTime.now();
+        OrderDto confirmed = order(OrderStatus.CONFIRMED, now);
+        OrderDto pending = order(OrderStatus.PENDING, now.minusSeconds(1));
+
+        orderCache.put(confirmed);
+        orderCache.put(pending);
+
+        assertThat(orderCache.get(1L)).contains(confirmed);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 커밋 후에만 캐시에 반영")
+    void putAfterCommit_AppliedOnCommit() {
+        OrderDto confirmed = order(OrderStatus.CONFIRMED, LocalDateTime.now());
+        TransactionSynchronizationManager.initSynchronization();
+
+        orderCache.putAfterCommit(confirmed);
+        assertThat(orderCache.get(1L)).isEmpty();
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+
+        assertThat(orderCache.get(1L)).contains(confirmed);
+        assertThat(orderCache.stats().hitCount()).isEqualTo(1);
+        assertThat(orderCache.stats().missCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("일괄 변경 커밋 전에 읽은 스냅샷은 무효화 이후에 도착해도 캐시되지 않음")
+    void invalidateAfterCommit_StaleReaderAfterwards_NotCached() {
+        LocalDateTime marker = LocalDateTime.now();
+        OrderDto loadedBeforeCommit = order(OrderStatus.CONFIRMED, marker.minusSeconds(1));
+        OrderDto loadedAfterCommit = order(OrderStatus.SHIPPING, marker);
+
+        orderCache.invalidateAfterCommit(1L, marker);
+        orderCache.put(loadedBeforeCommit);
+        assertThat(orderCache.get(1L)).isEmpty();
+
+        orderCache.put(loadedAfterCommit);
+        assertThat(orderCache.get(1L)).contains(loadedAfterCommit);
+    }
+
+    @Test
+    @DisplayName("쓰기와 무효화는 로드 통계에 잡히지 않고 조회만 적중/미스로 집계")
+    void stats_WritesAndInvalidations_NotCountedAsLoads() {
+        LocalDateTime now = LocalDateTime.now();
+
+        orderCache.put(order(OrderStatus.PENDING, now.minusSeconds(1)));
+        orderCache.put(order(OrderStatus.CONFIRMED, now));
+        orderCache.invalidateAfterCommit(1L, now.plusSeconds(1));
+        orderCache.get(1L);
+
+        assertThat(orderCache.stats().loadSuccessCount()).isZero();
+        assertThat(orderCache.stats().requestCount()).isEqualTo(1);
+        assertThat(orderCache.stats().missCount()).isEqualTo(1);
+    }
+
+    private OrderDto order(OrderStatus status, LocalDateTime updatedAt) {
+        return OrderDto.builder()
+                .id(1L)
+                .orderNumber("ORD-TEST")
+                .customerId(100L)
+                .status(status)
+                .orderItems(List.of())
+                .createdAt(updatedAt)
+                .updatedAt(updatedAt)
+                .build();
+    }
+}
@@ -0,0 +1,149 @@
+package com.sample.system.application.order;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sample.system.common.exception.BusinessException;
+import com.sample.system.common.exception.ErrorCode;
+import com.sample.system.infrastructure.persistence.order.OrderIdempotencyKey;
+import com.sample.system.infrastructure.persistence.order.OrderIdempotencyKeyRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("OrderIdempotencyService 단위 테스트")
+class OrderIdempotencyServiceTest {
+
+    private final OrderApplicationService orderApplicationService = mock(OrderApplicationService.class);
+    private final OrderIdempotencyKeyRepository idempotencyKeyRepository = mock(OrderIdempotencyKeyRepository.class);
+    private final OrderIdempotencyService orderIdempotencyService = new OrderIdempotencyService(
+            orderApplicationService, idempotencyKeyRepository, new ObjectMapper(), mock(TransactionTemplate.class),
+            100, Duration.ofHours(24), Duration.ofSeconds(5));
+
+    @Test
+    @DisplayName("같은 키로 다시 요청하면 주문을 만들지 않고 첫 응답을 반환")
+    void createOrder_Retry_ReplaysFromMemory() {
+        OrderDto created = order(1L);
+        when(orderApplicationService.createOrder(any(), any())).thenAnswer(invocation -> {
+            invocation.<Consumer<OrderDto>>getArgument(1).accept(created);
+            return created;
+        });
+
+        IdempotentOrderResult first = orderIdempotencyService.createOrder("key-1", command(2));
+        IdempotentOrderResult retry = orderIdempotencyService.createOrder("key-1", command(2));
+
+        assertThat(first.replayed()).isFalse();
+        assertThat(retry.replayed()).isTrue();
+        assertThat(retry.order()).isEqualTo(created);
+        verify(orderApplicationService, times(1)).createOrder(any(), any());
+        verify(idempotencyKeyRepository).insert(eq("key-1"), anyString(), eq(1L), anyString(), any(), any());
+        verify(idempotencyKeyRepository, times(1)).findByIdempotencyKeyAndExpiresAtAfter(any(), any());
+    }
+
+    @Test
+    @DisplayName("같은 키에 다른 요청 본문이면 실패")
+    void createOrder_DifferentBody_Fail() {
+        when(orderApplicationService.createOrder(any(), any())).thenReturn(order(1L));
+        orderIdempotencyService.createOrder("key-1", command(2));
+
+        assertThatThrownBy(() -> orderIdempotencyService.createOrder("key-1", command(3)))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.IDEMPOTENCY_KEY_REUSED);
+    }
+
+    @Test
+    @DisplayName("메모리에 없으면 저장된 응답으로 재생하고 주문 테이블은 건드리지 않음")
+    void createOrder_StoredKey_ReplaysFromDatabase() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        String requestHash = HexFormat.of().formatHex(
+                MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(command(2))));
+        OrderIdempotencyKey stored = mock(OrderIdempotencyKey.class);
+        when(stored.getRequestHash()).thenReturn(requestHash);
+        when(stored.getResponse()).thenReturn(objectMapper.writeValueAsString(order(7L)));
+        when(idempotencyKeyRepository.findByIdempotencyKeyAndExpiresAtAfter(eq("key-1"), any()))
+                .thenReturn(Optional.of(stored));
+
+        IdempotentOrderResult result = orderIdempotencyService.createOrder("key-1", command(2));
+
+        assertThat(result.replayed()).isTrue();
+        assertThat(result.order()).isEqualTo(order(7L));
+        verifyNoInteractions(orderApplicationService);
+    }
+
+    @Test
+    @DisplayName("만료됐지만 아직 정리되지 않은 키는 지우고 새 주문으로 다시 저장")
+    void createOrder_ExpiredKeyNotPurged_ReplacesRow() {
+        OrderDto created = order(3L);
+        when(orderApplicationService.createOrder(any(), any())).thenAnswer(invocation -> {
+            invocation.<Consumer<OrderDto>>getArgument(1).accept(created);
+            return created;
+        });
+
+        IdempotentOrderResult result = orderIdempotencyService.createOrder("key-1", command(2));
+
+        assertThat(result.replayed()).isFalse();
+        assertThat(result.order()).isEqualTo(created);
+        InOrder inOrder = inOrder(idempotencyKeyRepository);
+        inOrder.verify(idempotencyKeyRepository).deleteExpiredKey(eq("key-1"), any());
+        inOrder.verify(idempotencyKeyRepository).insert(eq("key-1"), anyString(), eq(3L), anyString(), any(), any());
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 중복 요청은 먼저 온 요청의 결과를 기다림")
+    void createOrder_ConcurrentDuplicate_WaitsForFirst() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(orderApplicationService.createOrder(any(), any())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return order(1L);
+        });
+
+        CompletableFuture<IdempotentOrderResult> first = CompletableFuture.supplyAsync(
+                () -> orderIdempotencyService.createOrder("key-1", command(2)));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<IdempotentOrderResult> duplicate = CompletableFuture.supplyAsync(
+                () -> orderIdempotencyService.createOrder("key-1", command(2)));
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS).replayed()).isFalse();
+        assertThat(duplicate.get(5, TimeUnit.SECONDS).replayed()).isTrue();
+        assertThat(duplicate.get().order().id()).isEqualTo(1L);
+        verify(orderApplicationService, times(1)).createOrder(any(), any());
+    }
+
+    private OrderDto order(Long id) {
+        return OrderDto.builder()
+                .id(id)
+                .orderNumber("ORD-" + id)
+                .customerId(100L)
+                .orderItems(List.of())
+                .build();
+    }
+
+    private CreateOrderCommand command(int quantity) {
+        return CreateOrderCommand.builder()
+                .customerId(100L)
+                .customerName("John Doe")
+                .orderItems(List.of(CreateOrderCommand.OrderItemCommand.builder()
+                        .productId(1L)
+                        .quantity(quantity)
+                        .build()))
+                .build();
+    }
+}
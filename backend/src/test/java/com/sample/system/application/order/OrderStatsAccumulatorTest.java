@@ -0,0 +1,97 @@
+package com.sample.system.application.order;
+
+import com.sample.system.domain.common.Money;
+import com.sample.system.domain.order.OrderEvent;
+import com.sample.system.domain.order.OrderStatus;
+import com.sample.system.infrastructure.persistence.order.CustomerOrderStats;
+import com.sample.system.infrastructure.persistence.order.CustomerOrderStatsRepository;
+import com.sample.system.infrastructure.persistence.order.OrderStatusCountRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderStatsAccumulator 단위 테스트")
+class OrderStatsAccumulatorTest {
+
+    @Mock
+    private OrderStatusCountRepository orderStatusCountRepository;
+
+    @Mock
+    private CustomerOrderStatsRepository customerOrderStatsRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private OrderStatsAccumulator orderStatsAccumulator;
+
+    @BeforeEach
+    void setUp() {
+        lenient().doAnswer(invocation -> {
+            invocation.<Consumer<Object>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @Test
+    @DisplayName("생성과 취소를 합산한 증분만 한 번에 반영")
+    void flush_AppliesNetDeltas() {
+        when(orderStatusCountRepository.increment(any(), anyLong())).thenReturn(1);
+        when(customerOrderStatsRepository.increment(any(), anyLong(), any())).thenReturn(0);
+
+        orderStatsAccumulator.record(created(1L, "10.00"));
+        orderStatsAccumulator.record(created(2L, "5.50"));
+        orderStatsAccumulator.record(OrderEvent.statusChanged(1L, 100L, Money.parse("10.00"),
+                OrderStatus.PENDING, OrderStatus.CANCELLED, LocalDateTime.now()));
+        orderStatsAccumulator.flush();
+
+        verify(orderStatusCountRepository).increment(OrderStatus.PENDING, 1L);
+        verify(orderStatusCountRepository).increment(OrderStatus.CANCELLED, 1L);
+        verify(customerOrderStatsRepository).increment(100L, 2L, new BigDecimal("5.50"));
+        verify(customerOrderStatsRepository).save(argThat((CustomerOrderStats stats) ->
+                stats.getOrderCount() == 2 && stats.getLifetimeSpend().equals(Money.parse("5.50"))));
+    }
+
+    @Test
+    @DisplayName("반영 실패 시 증분을 보관했다가 다음 flush 에 다시 반영")
+    void flush_Failure_KeepsDeltas() {
+        when(orderStatusCountRepository.increment(any(), anyLong()))
+                .thenThrow(new DataIntegrityViolationException("down"))
+                .thenReturn(1);
+        when(customerOrderStatsRepository.increment(any(), anyLong(), any())).thenReturn(1);
+
+        orderStatsAccumulator.record(created(1L, "10.00"));
+        orderStatsAccumulator.flush();
+        orderStatsAccumulator.flush();
+
+        verify(orderStatusCountRepository, times(2)).increment(OrderStatus.PENDING, 1L);
+        verify(customerOrderStatsRepository).increment(100L, 1L, new BigDecimal("10.00"));
+        assertThat(mockingDetails(customerOrderStatsRepository).getInvocations()).hasSize(1);
+    }
+
+    private OrderEvent created(Long orderId, String totalAmount) {
+        return OrderEvent.builder()
+                .type(OrderEvent.Type.CREATED)
+                .orderId(orderId)
+                .customerId(100L)
+                .status(OrderStatus.PENDING)
+                .totalAmount(Money.parse(totalAmount))
+                .build();
+    }
+}
@@ -0,0 +1,47 @@
+package com.sample.system.application.order;
+
+import com.sample.system.domain.order.OrderEvent;
+import com.sample.system.infrastructure.outbox.OrderEventMessage;
+import com.sample.system.infrastructure.persistence.order.OrderSummaryRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.mockito.Mockito.inOrder;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderSummaryProjector 단위 테스트")
+class OrderSummaryProjectorTest {
+
+    @Mock
+    private OrderSummaryRepository orderSummaryRepository;
+
+    @InjectMocks
+    private OrderSummaryProjector orderSummaryProjector;
+
+    @Test
+    @DisplayName("배치 안의 주문별로 한 번씩 요약 행을 다시 만든다")
+    void publish_RefreshesEachOrderOnce() {
+        orderSummaryProjector.publish(List.of(
+                message(1L, 20L, OrderEvent.Type.CREATED),
+                message(2L, 10L, OrderEvent.Type.CREATED),
+                message(3L, 20L, OrderEvent.Type.STATUS_CHANGED)
+        ));
+
+        InOrder inOrder = inOrder(orderSummaryRepository);
+        inOrder.verify(orderSummaryRepository).upsertFromOrders(Set.of(10L, 20L));
+        inOrder.verify(orderSummaryRepository).deleteOrphansByOrderIdIn(Set.of(10L, 20L));
+    }
+
+    private OrderEventMessage message(Long id, Long orderId, OrderEvent.Type type) {
+        return new OrderEventMessage(id, orderId, type, "{}", LocalDateTime.now());
+    }
+}
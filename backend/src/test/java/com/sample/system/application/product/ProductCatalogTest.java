@@ -0,0 +1,72 @@
+package com.sample.system.application.product;
+
+import com.sample.system.domain.common.Money;
+import com.sample.system.infrastructure.persistence.product.ProductRepository;
+import com.sample.system.infrastructure.persistence.product.ProductRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductCatalog 단위 테스트")
+class ProductCatalogTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Captor
+    private ArgumentCaptor<Collection<Long>> idsCaptor;
+
+    private ProductCatalog productCatalog;
+
+    @BeforeEach
+    void setUp() {
+        productCatalog = new ProductCatalog(productRepository, 100, Duration.ofMinutes(1));
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 상품만 한 번의 IN 조회로 불러옴")
+    void getAll_LoadsMissesInOneQuery() {
+        when(productRepository.findRowsByIdIn(anyCollection()))
+                .thenReturn(List.of(row(1L, "10.00"), row(2L, "20.00")))
+                .thenReturn(List.of(row(3L, "30.00")));
+
+        productCatalog.getAll(List.of(1L, 2L));
+        Map<Long, ProductDto> result = productCatalog.getAll(List.of(1L, 2L, 3L));
+
+        assertThat(result).containsOnlyKeys(1L, 2L, 3L);
+        assertThat(result.get(3L).price()).isEqualTo(Money.parse("30.00"));
+        verify(productRepository, times(2)).findRowsByIdIn(idsCaptor.capture());
+        assertThat(idsCaptor.getAllValues().get(0)).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(idsCaptor.getAllValues().get(1)).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("없는 상품은 결과에서 빠짐")
+    void getAll_UnknownProduct_Absent() {
+        when(productRepository.findRowsByIdIn(anyCollection())).thenReturn(List.of(row(1L, "10.00")));
+
+        Map<Long, ProductDto> result = productCatalog.getAll(List.of(1L, 404L));
+
+        assertThat(result).containsOnlyKeys(1L);
+    }
+
+    private ProductRow row(Long id, String price) {
+        return new ProductRow(id, "Product " + id, new BigDecimal(price));
+    }
+}
@@ -0,0 +1,93 @@
+package com.sample.system.application.recommendation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("RecommendationCache 단위 테스트")
+class RecommendationCacheTest {
+
+    private final RecommendationCache recommendationCache =
+            new RecommendationCache(100, Duration.ofMinutes(10), Duration.ofSeconds(30));
+
+    @Test
+    @DisplayName("같은 키의 동시 미스는 한 번만 로드")
+    void get_ConcurrentMisses_LoadOnce() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CompletableFuture<List<RecommendationDto>> upstream = new CompletableFuture<>();
+        List<RecommendationDto> expected = List.of(recommendation(1L));
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+
+        List<CompletableFuture<List<RecommendationDto>>> results = new ArrayList<>();
+        try {
+            List<Future<CompletableFuture<List<RecommendationDto>>>> calls = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                calls.add(executor.submit(() -> recommendationCache.get(100L, "Book A", () -> {
+                    loads.incrementAndGet();
+                    return upstream;
+                })));
+            }
+            for (Future<CompletableFuture<List<RecommendationDto>>> call : calls) {
+                results.add(call.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        upstream.complete(expected);
+
+        assertThat(loads).hasValue(1);
+        assertThat(results).allSatisfy(result -> assertThat(result.join()).isEqualTo(expected));
+        assertThat(recommendationCache.stats().loadSuccessCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("주문 이력이 다르면 별도로 로드")
+    void get_DifferentHistory_LoadsSeparately() {
+        AtomicInteger loads = new AtomicInteger();
+
+        recommendationCache.get(100L, "Book A", () -> completed(loads.incrementAndGet())).join();
+        recommendationCache.get(100L, "Book A", () -> completed(loads.incrementAndGet())).join();
+        recommendationCache.get(100L, "Book B", () -> completed(loads.incrementAndGet())).join();
+
+        assertThat(loads).hasValue(2);
+        assertThat(recommendationCache.stats().hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("로드 실패는 캐시하지 않음")
+    void get_LoaderFails_NotCached() {
+        CompletableFuture<List<RecommendationDto>> failed =
+                recommendationCache.get(100L, null, () -> CompletableFuture.failedFuture(new IllegalStateException("upstream down")));
+
+        assertThat(failed).isCompletedExceptionally();
+
+        List<RecommendationDto> result = recommendationCache.get(100L, null, () -> completed(1L)).join();
+
+        assertThat(result).hasSize(1);
+    }
+
+    private static CompletableFuture<List<RecommendationDto>> completed(long productId) {
+        return CompletableFuture.completedFuture(List.of(recommendation(productId)));
+    }
+
+    private static RecommendationDto recommendation(long productId) {
+        return RecommendationDto.builder()
+                .productId(productId)
+                .productName("Book")
+                .reason("reason")
+                .confidenceScore(0.9)
+                .build();
+    }
+}
@@ -0,0 +1,60 @@
+package com.sample.system.application.recommendation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("RecommendationParser 단위 테스트")
+class RecommendationParserTest {
+
+    private final RecommendationParser recommendationParser = new RecommendationParser(new ObjectMapper());
+
+    @Test
+    @DisplayName("추천 목록 파싱 - 알 수 없는 필드는 무시")
+    void parse_Success() {
+        String response = """
+                {"model": "x", "recommendations": [
+                  {"productId": 1, "productName": "Book A", "reason": "r", "confidenceScore": 0.9, "tags": ["a", {"b": 1}]}
+                ], "usage": {"tokens": 10}}
+                """;
+
+        List<RecommendationDto> result = recommendationParser.parse(response);
+
+        assertThat(result).containsExactly(new RecommendationDto(1L, "Book A", "r", 0.9));
+    }
+
+    @Test
+    @DisplayName("잘못된 항목만 건너뛰고 나머지는 유지")
+    void parse_MalformedEntries_Skipped() {
+        String response = """
+                {"recommendations": [
+                  {"productId": "abc", "productName": "Bad Id", "confidenceScore": 0.5},
+                  {"productId": 2, "productName": "Book B", "confidenceScore": "high"},
+                  {"productName": "Missing Id"},
+                  42,
+                  {"productId": 3, "productName": "Book C", "reason": null, "confidenceScore": 0.7}
+                ]}
+                """;
+
+        List<RecommendationDto> result = recommendationParser.parse(response);
+
+        assertThat(result).extracting(RecommendationDto::productId).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("응답이 중간에 잘리면 그 전까지 파싱한 항목 반환")
+    void parse_TruncatedResponse_KeepsParsedEntries() {
+        String response = """
+                {"recommendations": [
+                  {"productId": 1, "productName": "Book A", "confidenceScore": 0.9},
+                  {"productId": 2, "productName": "Boo""";
+
+        List<RecommendationDto> result = recommendationParser.parse(response);
+
+        assertThat(result).extracting(RecommendationDto::productId).containsExactly(1L);
+    }
+}
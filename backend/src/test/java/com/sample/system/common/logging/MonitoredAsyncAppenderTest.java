@@ -0,0 +1,99 @@
+package com.sample.system.common.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import ch.qos.logback.core.AppenderBase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("MonitoredAsyncAppender 단위 테스트")
+class MonitoredAsyncAppenderTest {
+
+    private final LoggerContext loggerContext = new LoggerContext();
+    private final CountDownLatch taken = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final MonitoredAsyncAppender asyncAppender = new MonitoredAsyncAppender();
+    private final Logger logger = loggerContext.getLogger("test");
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        loggerContext.stop();
+    }
+
+    @Test
+    @DisplayName("큐가 거의 차면 INFO는 버리고, 가득 차면 WARN도 막히지 않고 버려진 수를 센다")
+    void append_QueueFull_DiscardsAndDropsWithoutBlocking() throws InterruptedException {
+        start(true);
+
+        // The worker takes the first event and blocks in the slow appender, then the queue fills up
+        logger.warn("taken by the worker");
+        assertThat(taken.await(5, TimeUnit.SECONDS)).isTrue();
+        for (int i = 0; i < 10; i++) {
+            logger.warn("filling {}", i);
+        }
+        logger.info("discarded below threshold");
+        logger.warn("dropped on full queue");
+
+        LogQueueStatsDto stats = asyncAppender.stats();
+        assertThat(stats.capacity()).isEqualTo(10);
+        assertThat(stats.queued()).isEqualTo(10);
+        assertThat(stats.remainingCapacity()).isZero();
+        assertThat(stats.discardedCount()).isEqualTo(1);
+        assertThat(stats.droppedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("neverBlock이 아니면 가득 찬 큐에서 WARN을 버린 것으로 세지 않음")
+    void stats_BlockingMode_NoDropCounted() {
+        start(false);
+
+        for (int i = 0; i < 5; i++) {
+            logger.warn("event {}", i);
+        }
+        logger.info("discarded below threshold");
+
+        assertThat(asyncAppender.stats().neverBlock()).isFalse();
+        assertThat(asyncAppender.stats().discardedCount()).isZero();
+        assertThat(asyncAppender.stats().droppedCount()).isZero();
+    }
+
+    private void start(boolean neverBlock) {
+        loggerContext.setMDCAdapter(new LogbackMDCAdapter());
+
+        AppenderBase<ILoggingEvent> slowAppender = new AppenderBase<>() {
+            @Override
+            protected void append(ILoggingEvent event) {
+                taken.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        slowAppender.setContext(loggerContext);
+        slowAppender.start();
+
+        asyncAppender.setContext(loggerContext);
+        asyncAppender.setName("ASYNC_TEST");
+        asyncAppender.setQueueSize(10);
+        asyncAppender.setDiscardingThreshold(2);
+        asyncAppender.setNeverBlock(neverBlock);
+        asyncAppender.addAppender(slowAppender);
+        asyncAppender.start();
+
+        logger.setAdditive(false);
+        logger.setLevel(Level.INFO);
+        logger.addAppender(asyncAppender);
+    }
+}
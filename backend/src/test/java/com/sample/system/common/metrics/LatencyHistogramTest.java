@@ -0,0 +1,45 @@
+package com.sample.system.common.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("LatencyHistogram 단위 테스트")
+class LatencyHistogramTest {
+
+    @Test
+    @DisplayName("백분위는 실제 값보다 작지 않고 1/16 이내로 보고")
+    void valueAt_WithinBucketPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long nanos = 1; nanos <= 10_000; nanos++) {
+            histogram.record(nanos * 1_000);
+        }
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        assertThat(snapshot.count()).isEqualTo(10_000);
+        assertThat(snapshot.valueAt(0.5)).isBetween(5_000_000L, 5_000_000L + 5_000_000L / 16);
+        assertThat(snapshot.valueAt(0.99)).isBetween(9_900_000L, 9_900_000L + 9_900_000L / 16);
+        assertThat(snapshot.valueAt(0.999)).isBetween(9_990_000L, 10_000_000L);
+        assertThat(snapshot.maxNanos()).isEqualTo(10_000_000L);
+        assertThat(snapshot.meanMicros()).isEqualTo(5_000.5);
+    }
+
+    @Test
+    @DisplayName("버킷 경계가 연속이고 범위를 벗어난 값은 양 끝 버킷에 기록")
+    void indexOf_BucketsAreContiguous() {
+        for (long value = 1; value < 1 << 20; value++) {
+            int index = LatencyHistogram.indexOf(value);
+            assertThat(LatencyHistogram.highestValueOf(index)).isGreaterThanOrEqualTo(value);
+            assertThat(LatencyHistogram.highestValueOf(index - 1)).isLessThan(value);
+        }
+
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+        histogram.record(Long.MAX_VALUE);
+
+        assertThat(histogram.snapshot().valueAt(0.5)).isZero();
+        assertThat(histogram.snapshot().valueAt(1.0)).isEqualTo((1L << 40) - 1);
+    }
+}
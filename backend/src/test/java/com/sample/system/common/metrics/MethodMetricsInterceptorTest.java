@@ -0,0 +1,68 @@
+package com.sample.system.common.metrics;
+
+import com.sample.system.common.exception.BusinessException;
+import com.sample.system.common.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("MethodMetricsInterceptor 단위 테스트")
+class MethodMetricsInterceptorTest {
+
+    private final MethodMetricsRegistry registry = new MethodMetricsRegistry();
+
+    @Test
+    @DisplayName("메서드별 호출 수와 ErrorCode별 실패 수를 기록")
+    void invoke_RecordsCountsAndErrorsByCode() {
+        StockChecker checker = proxy(new StockChecker());
+
+        checker.check(1);
+        checker.check(2);
+        assertThatThrownBy(() -> checker.check(0)).isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> checker.check(-1)).isInstanceOf(IllegalStateException.class);
+
+        assertThat(registry.snapshot()).singleElement().satisfies(metrics -> {
+            assertThat(metrics.method()).isEqualTo("StockChecker.check(int)");
+            assertThat(metrics.count()).isEqualTo(4);
+            assertThat(metrics.errorCount()).isEqualTo(2);
+            assertThat(metrics.errorsByCode()).isEqualTo(Map.of(
+                    ErrorCode.INSUFFICIENT_STOCK.name(), 1L,
+                    MethodMetrics.UNHANDLED_ERROR, 1L));
+            assertThat(metrics.p50Micros()).isLessThanOrEqualTo(metrics.maxMicros());
+        });
+    }
+
+    @Test
+    @DisplayName("초기화하면 이전 기록을 버림")
+    void reset_ClearsMetrics() {
+        proxy(new StockChecker()).check(1);
+
+        registry.reset();
+
+        assertThat(registry.snapshot()).isEmpty();
+    }
+
+    private StockChecker proxy(StockChecker target) {
+        ProxyFactory proxyFactory = new ProxyFactory(target);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvice(new MethodMetricsInterceptor(() -> registry));
+        return (StockChecker) proxyFactory.getProxy();
+    }
+
+    static class StockChecker {
+
+        public int check(int quantity) {
+            if (quantity == 0) {
+                throw new BusinessException(ErrorCode.INSUFFICIENT_STOCK);
+            }
+            if (quantity < 0) {
+                throw new IllegalStateException("negative quantity");
+            }
+            return quantity;
+        }
+    }
+}
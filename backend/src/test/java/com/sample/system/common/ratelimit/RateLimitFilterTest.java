@@ -0,0 +1,100 @@
+package com.sample.system.common.ratelimit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("RateLimitFilter 단위 테스트")
+class RateLimitFilterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicLong clock = new AtomicLong();
+    private final RateLimitFilter filter = new RateLimitFilter(
+            List.of(new RateLimitFilter.Route("/api/recommendations", Set.of(), Set.of(),
+                            new RateLimiter(1, 0.5, Duration.ofMinutes(1), 100, clock::get)),
+                    new RateLimitFilter.Route("/api/orders", Set.of("GET"), Set.of(),
+                            new RateLimiter(1, 0.5, Duration.ofMinutes(1), 100, clock::get)),
+                    new RateLimitFilter.Route("/api/orders", Set.of("POST"), Set.of("/api/orders", "/api/orders/bulk"),
+                            new RateLimiter(1, 0.5, Duration.ofMinutes(1), 100, clock::get))),
+            objectMapper);
+
+    @Test
+    @DisplayName("한도를 넘은 요청은 429 ErrorResponse와 Retry-After 헤더로 거절")
+    void doFilter_OverLimit_Returns429() throws Exception {
+        assertThat(send("/api/recommendations", "1").getStatus()).isEqualTo(200);
+
+        MockHttpServletResponse rejected = send("/api/recommendations", "1");
+
+        assertThat(rejected.getStatus()).isEqualTo(429);
+        assertThat(rejected.getHeader("Retry-After")).isEqualTo("2");
+        assertThat(rejected.getHeader("X-Correlation-ID")).isEqualTo("corr-1");
+        JsonNode body = objectMapper.readTree(rejected.getContentAsString());
+        assertThat(body.get("code").asText()).isEqualTo("RATE001");
+        assertThat(body.get("path").asText()).isEqualTo("/api/recommendations");
+        assertThat(body.get("correlationId").asText()).isEqualTo("corr-1");
+    }
+
+    @Test
+    @DisplayName("다른 고객과 설정되지 않은 경로는 제한하지 않음")
+    void doFilter_OtherCustomerAndUnmatchedPath_Pass() throws Exception {
+        send("/api/recommendations", "1");
+
+        assertThat(send("/api/recommendations", "2").getStatus()).isEqualTo(200);
+        assertThat(send("/api/recommendations-admin", "1").getStatus()).isEqualTo(200);
+        assertThat(send("/api/orders-admin", "1").getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("조회가 아닌 요청의 customerId 파라미터는 무시하고 클라이언트 주소로 제한")
+    void doFilter_NonGetCustomerParameter_KeyedByAddress() throws Exception {
+        assertThat(send("POST", "/api/recommendations", "1").getStatus()).isEqualTo(200);
+
+        assertThat(send("POST", "/api/recommendations", "2").getStatus()).isEqualTo(429);
+    }
+
+    @Test
+    @DisplayName("메서드가 지정된 경로는 다른 메서드를 제한하지 않음")
+    void doFilter_UnlistedMethod_Pass() throws Exception {
+        send("/api/orders", "1");
+
+        assertThat(send("/api/orders", "1").getStatus()).isEqualTo(429);
+        assertThat(send("POST", "/api/orders", "1").getStatus()).isEqualTo(200);
+        assertThat(send("POST", "/api/orders", "1").getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("제외 경로는 정확히 일치할 때만 건너뛰고 하위 경로는 주소로 제한")
+    void doFilter_ExcludedPath_OnlyExactMatchSkipped() throws Exception {
+        assertThat(send("POST", "/api/orders/bulk", "1").getStatus()).isEqualTo(200);
+        assertThat(send("POST", "/api/orders/bulk", "1").getStatus()).isEqualTo(200);
+
+        assertThat(send("POST", "/api/orders/1/confirm", "1").getStatus()).isEqualTo(200);
+        assertThat(send("POST", "/api/orders/transitions", "1").getStatus()).isEqualTo(429);
+    }
+
+    private MockHttpServletResponse send(String uri, String customerId) throws Exception {
+        return send("GET", uri, customerId);
+    }
+
+    private MockHttpServletResponse send(String method, String uri, String customerId) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.setParameter("customerId", customerId);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        response.setHeader("X-Correlation-ID", "corr-1");
+        FilterChain chain = new MockFilterChain();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+}
@@ -0,0 +1,86 @@
+package com.sample.system.common.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("RateLimiter 단위 테스트")
+class RateLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+    private final RateLimiter rateLimiter = new RateLimiter(3, 2, Duration.ofMinutes(1), 100, clock::get);
+
+    @Test
+    @DisplayName("버킷 용량만큼 연속 허용하고 이후에는 다음 토큰까지의 대기 시간을 반환")
+    void tryAcquire_BurstThenWait() {
+        for (int i = 0; i < 3; i++) {
+            assertThat(rateLimiter.tryAcquire("customer:1")).isZero();
+        }
+
+        assertThat(rateLimiter.tryAcquire("customer:1")).isEqualTo(Duration.ofMillis(500).toNanos());
+    }
+
+    @Test
+    @DisplayName("시간이 지나면 충전 속도만큼 다시 허용")
+    void tryAcquire_RefillsOverTime() {
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.tryAcquire("customer:1");
+        }
+
+        clock.addAndGet(Duration.ofMillis(500).toNanos());
+
+        assertThat(rateLimiter.tryAcquire("customer:1")).isZero();
+        assertThat(rateLimiter.tryAcquire("customer:1")).isPositive();
+    }
+
+    @Test
+    @DisplayName("여러 개를 한 번에 요청하면 그만큼 차감")
+    void tryAcquire_Permits_ChargesEach() {
+        assertThat(rateLimiter.tryAcquire("customer:1", 2)).isZero();
+
+        assertThat(rateLimiter.tryAcquire("customer:1", 2)).isEqualTo(Duration.ofMillis(500).toNanos());
+        assertThat(rateLimiter.tryAcquire("customer:1")).isZero();
+    }
+
+    @Test
+    @DisplayName("용량보다 큰 요청은 가득 찬 버킷에서만 허용하고 충전될 때까지 다음 요청을 막음")
+    void tryAcquire_PermitsOverCapacity_AdmittedFromFullBucketIntoDebt() {
+        rateLimiter.tryAcquire("customer:1");
+        assertThat(rateLimiter.tryAcquire("customer:1", 10)).isEqualTo(Duration.ofMillis(500).toNanos());
+
+        clock.addAndGet(Duration.ofMillis(500).toNanos());
+        assertThat(rateLimiter.tryAcquire("customer:1", 10)).isZero();
+
+        // 10개를 2개/초로 갚는 5초 중 버킷 용량(1.5초)만큼은 미리 허용된 몫
+        assertThat(rateLimiter.tryAcquire("customer:1")).isEqualTo(Duration.ofMillis(4000).toNanos());
+    }
+
+    @Test
+    @DisplayName("고객별 버킷은 서로 영향을 주지 않음")
+    void tryAcquire_IndependentClients() {
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.tryAcquire("customer:1");
+        }
+
+        assertThat(rateLimiter.tryAcquire("customer:1")).isPositive();
+        assertThat(rateLimiter.tryAcquire("customer:2")).isZero();
+    }
+
+    @Test
+    @DisplayName("유휴 버킷은 제거되고 다시 오면 가득 찬 버킷으로 시작")
+    void tryAcquire_EvictsIdleBuckets() {
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.tryAcquire("customer:1");
+        }
+        assertThat(rateLimiter.bucketCount()).isEqualTo(1);
+
+        clock.addAndGet(Duration.ofMinutes(2).toNanos());
+
+        assertThat(rateLimiter.bucketCount()).isZero();
+        assertThat(rateLimiter.tryAcquire("customer:1")).isZero();
+    }
+}
@@ -0,0 +1,43 @@
+package com.sample.system.domain.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Money 단위 테스트")
+class MoneyTest {
+
+    @Test
+    @DisplayName("금액 변환 - 소수점 둘째 자리까지 보존")
+    void of_RoundTrip() {
+        Money money = Money.of(new BigDecimal("19.9"));
+
+        assertThat(money.minorUnits()).isEqualTo(1990);
+        assertThat(money.toBigDecimal()).isEqualTo(new BigDecimal("19.90"));
+        assertThat(money).hasToString("19.90");
+        assertThat(Money.ofMinor(-5)).hasToString("-0.05");
+        assertThat(Money.ofMinor(Long.MIN_VALUE)).hasToString(BigDecimal.valueOf(Long.MIN_VALUE, 2).toPlainString());
+    }
+
+    @Test
+    @DisplayName("금액 변환 - 소수점 셋째 자리 이상이면 실패")
+    void of_TooManyDecimals_Fail() {
+        assertThatThrownBy(() -> Money.parse("0.333"))
+                .isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    @DisplayName("금액 연산 - 오버플로우 시 실패")
+    void times_Overflow_Fail() {
+        Money money = Money.ofMinor(Long.MAX_VALUE / 2 + 1);
+
+        assertThat(Money.parse("12.50").times(3)).isEqualTo(Money.parse("37.50"));
+        assertThatThrownBy(() -> money.times(2))
+                .isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> money.plus(money))
+                .isInstanceOf(ArithmeticException.class);
+    }
+}
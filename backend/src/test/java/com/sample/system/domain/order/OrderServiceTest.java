@@ -2,10 +2,10 @@ package com.sample.system.domain.order;
 
 import com.sample.system.common.exception.BusinessException;
 import com.sample.system.common.exception.ErrorCode;
+import com.sample.system.domain.common.Money;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
-import java.math.BigDecimal;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.*;
@@ -19,8 +19,8 @@ class OrderServiceTest {
     @DisplayName("주문 생성 - 성공")
     void createOrder_Success() {
         List<OrderService.OrderItemData> itemDataList = List.of(
-                new OrderService.OrderItemData(1L, "Book A", 2, BigDecimal.valueOf(10.00)),
-                new OrderService.OrderItemData(2L, "Book B", 1, BigDecimal.valueOf(20.00))
+                new OrderService.OrderItemData(1L, "Book A", 2, Money.parse("10.00")),
+                new OrderService.OrderItemData(2L, "Book B", 1, Money.parse("20.00"))
         );
 
         Order order = orderService.createOrder("ORD-001", 100L, "John Doe", itemDataList);
@@ -30,7 +30,7 @@ class OrderServiceTest {
         assertThat(order.getCustomerId()).isEqualTo(100L);
         assertThat(order.getCustomerName()).isEqualTo("John Doe");
         assertThat(order.getStatus()).isEqualTo(OrderStatus.PENDING);
-        assertThat(order.getTotalAmount()).isEqualByComparingTo(BigDecimal.valueOf(40.00));
+        assertThat(order.getTotalAmount()).isEqualTo(Money.parse("40.00"));
         assertThat(order.getOrderItems()).hasSize(2);
     }
 
@@ -45,11 +45,30 @@ class OrderServiceTest {
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.VALIDATION_ERROR);
     }
 
+    @Test
+    @DisplayName("주문 합계 - 항목별 금액을 모두 더한 값과 일치")
+    void calculateOrderTotal_MatchesLineSum() {
+        List<OrderService.OrderItemData> itemDataList = List.of(
+                new OrderService.OrderItemData(1L, "Book A", 3, Money.parse("10.50")),
+                new OrderService.OrderItemData(2L, "Book B", 1, Money.parse("0.33")),
+                new OrderService.OrderItemData(3L, "Book C", 7, Money.parse("19.99"))
+        );
+
+        Order order = orderService.createOrder("ORD-003", 100L, "John Doe", itemDataList);
+        order.addOrderItem(new OrderItem(4L, "Book D", 2, Money.parse("5.00")));
+
+        Money lineSum = order.getOrderItems().stream()
+                .map(OrderItem::calculateTotalPrice)
+                .reduce(Money.ZERO, Money::plus);
+        assertThat(order.getTotalAmount()).isEqualTo(lineSum).isEqualTo(Money.parse("181.76"));
+        assertThat(orderService.calculateOrderTotal(order)).isEqualTo(lineSum);
+    }
+
     @Test
     @DisplayName("주문 확정 - 성공")
     void confirmOrder_Success() {
         List<OrderService.OrderItemData> itemDataList = List.of(
-                new OrderService.OrderItemData(1L, "Book A", 2, BigDecimal.valueOf(10.00))
+                new OrderService.OrderItemData(1L, "Book A", 2, Money.parse("10.00"))
         );
         Order order = orderService.createOrder("ORD-003", 100L, "John Doe", itemDataList);
 
@@ -62,7 +81,7 @@ class OrderServiceTest {
     @DisplayName("주문 확정 - PENDING 상태가 아니면 실패")
     void confirmOrder_NotPending_Fail() {
         List<OrderService.OrderItemData> itemDataList = List.of(
-                new OrderService.OrderItemData(1L, "Book A", 2, BigDecimal.valueOf(10.00))
+                new OrderService.OrderItemData(1L, "Book A", 2, Money.parse("10.00"))
         );
         Order order = orderService.createOrder("ORD-004", 100L, "John Doe", itemDataList);
         order.confirm();
@@ -76,7 +95,7 @@ class OrderServiceTest {
     @DisplayName("주문 취소 - 성공 (PENDING)")
     void cancelOrder_Pending_Success() {
         List<OrderService.OrderItemData> itemDataList = List.of(
-                new OrderService.OrderItemData(1L, "Book A", 2, BigDecimal.valueOf(10.00))
+                new OrderService.OrderItemData(1L, "Book A", 2, Money.parse("10.00"))
         );
         Order order = orderService.createOrder("ORD-005", 100L, "John Doe", itemDataList);
 
@@ -89,7 +108,7 @@ class OrderServiceTest {
     @DisplayName("주문 취소 - 성공 (CONFIRMED)")
     void cancelOrder_Confirmed_Success() {
         List<OrderService.OrderItemData> itemDataList = List.of(
-                new OrderService.OrderItemData(1L, "Book A", 2, BigDecimal.valueOf(10.00))
+                new OrderService.OrderItemData(1L, "Book A", 2, Money.parse("10.00"))
         );
         Order order = orderService.createOrder("ORD-006", 100L, "John Doe", itemDataList);
         order.confirm();
@@ -103,7 +122,7 @@ class OrderServiceTest {
     @DisplayName("주문 취소 - 실패 (SHIPPING)")
     void cancelOrder_Shipping_Fail() {
         List<OrderService.OrderItemData> itemDataList = List.of(
-                new OrderService.OrderItemData(1L, "Book A", 2, BigDecimal.valueOf(10.00))
+                new OrderService.OrderItemData(1L, "Book A", 2, Money.parse("10.00"))
         );
         Order order = orderService.createOrder("ORD-007", 100L, "John Doe", itemDataList);
         order.confirm();
@@ -118,7 +137,7 @@ class OrderServiceTest {
     @DisplayName("주문 상태 전환 흐름 - PENDING -> CONFIRMED -> SHIPPING -> DELIVERED")
     void orderStatusTransition_Success() {
         List<OrderService.OrderItemData> itemDataList = List.of(
-                new OrderService.OrderItemData(1L, "Book A", 2, BigDecimal.valueOf(10.00))
+                new OrderService.OrderItemData(1L, "Book A", 2, Money.parse("10.00"))
         );
         Order order = orderService.createOrder("ORD-008", 100L, "John Doe", itemDataList);
 
@@ -0,0 +1,129 @@
+package com.sample.system.domain.product;
+
+import com.sample.system.common.exception.BusinessException;
+import com.sample.system.common.exception.ErrorCode;
+import com.sample.system.infrastructure.persistence.product.ProductRepository;
+import com.sample.system.infrastructure.persistence.product.StockReservation;
+import com.sample.system.infrastructure.persistence.product.StockReservationRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductService 단위 테스트")
+class ProductServiceTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private StockReservationRepository stockReservationRepository;
+
+    @InjectMocks
+    private ProductService productService;
+
+    @Test
+    @DisplayName("재고 확보 - 상품 id 오름차순으로 차감")
+    void reserveStock_DecreasesInProductIdOrder() {
+        Map<Long, Integer> quantities = new LinkedHashMap<>();
+        quantities.put(30L, 1);
+        quantities.put(10L, 2);
+        quantities.put(20L, 3);
+        when(productRepository.decreaseStock(anyLong(), anyInt())).thenReturn(1);
+
+        productService.reserveStock(quantities);
+
+        InOrder inOrder = inOrder(productRepository);
+        inOrder.verify(productRepository).decreaseStock(10L, 2);
+        inOrder.verify(productRepository).decreaseStock(20L, 3);
+        inOrder.verify(productRepository).decreaseStock(30L, 1);
+    }
+
+    @Test
+    @DisplayName("재고 확보 - 차감과 같은 트랜잭션에 상품별 예약을 기록")
+    void reserveStock_RecordsReservation() {
+        when(productRepository.decreaseStock(anyLong(), anyInt())).thenReturn(1);
+
+        String reservationId = productService.reserveStock(Map.of(2L, 1, 1L, 4));
+
+        verify(stockReservationRepository).saveAll(argThat((List<StockReservation> lines) -> lines.size() == 2
+                && lines.stream().allMatch(line -> line.getReservationId().equals(reservationId))
+                && lines.get(0).getProductId() == 1L && lines.get(0).getQuantity() == 4));
+    }
+
+    @Test
+    @DisplayName("재고 확보 - 재고가 부족하면 이후 상품은 차감하지 않고 실패")
+    void reserveStock_InsufficientStock_Fail() {
+        when(productRepository.decreaseStock(1L, 5)).thenReturn(0);
+        when(productRepository.existsById(1L)).thenReturn(true);
+
+        assertThatThrownBy(() -> productService.reserveStock(Map.of(1L, 5, 2L, 1)))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INSUFFICIENT_STOCK);
+
+        verify(productRepository, never()).decreaseStock(2L, 1);
+    }
+
+    @Test
+    @DisplayName("재고 확보 - 없는 상품이면 실패")
+    void reserveStock_UnknownProduct_Fail() {
+        when(productRepository.decreaseStock(99L, 1)).thenReturn(0);
+        when(productRepository.existsById(99L)).thenReturn(false);
+
+        assertThatThrownBy(() -> productService.reserveStock(Map.of(99L, 1)))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.PRODUCT_NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("재고 반환 - 상품 id 오름차순으로 증가")
+    void releaseStock_IncreasesInProductIdOrder() {
+        when(productRepository.increaseStock(anyLong(), anyInt())).thenReturn(1);
+
+        productService.releaseStock(Map.of(2L, 1, 1L, 4));
+
+        InOrder inOrder = inOrder(productRepository);
+        inOrder.verify(productRepository).increaseStock(1L, 4);
+        inOrder.verify(productRepository).increaseStock(2L, 1);
+    }
+
+    @Test
+    @DisplayName("예약 확정 - 이미 회수된 예약이면 false")
+    void confirmReservation_AlreadyReleased_False() {
+        when(stockReservationRepository.deleteByReservationId("r-1")).thenReturn(0);
+
+        assertThat(productService.confirmReservation("r-1")).isFalse();
+    }
+
+    @Test
+    @DisplayName("예약 회수 - 예약을 지운 쪽만 재고를 되돌림")
+    void releaseReservation_ReturnsStockOnce() {
+        List<StockReservation> lines = List.of(
+                new StockReservation("r-1", 1L, 4, LocalDateTime.now()),
+                new StockReservation("r-1", 2L, 1, LocalDateTime.now()));
+        when(stockReservationRepository.findByReservationIdOrderByProductId("r-1")).thenReturn(lines);
+        when(stockReservationRepository.deleteByReservationId("r-1")).thenReturn(2, 0);
+        when(productRepository.increaseStock(anyLong(), anyInt())).thenReturn(1);
+
+        assertThat(productService.releaseReservation("r-1")).isTrue();
+        assertThat(productService.releaseReservation("r-1")).isFalse();
+
+        verify(productRepository, times(1)).increaseStock(1L, 4);
+        verify(productRepository, times(1)).increaseStock(2L, 1);
+    }
+}
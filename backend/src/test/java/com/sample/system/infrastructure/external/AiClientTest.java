@@ -0,0 +1,137 @@
+package com.sample.system.infrastructure.external;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sample.system.common.exception.BusinessException;
+import com.sample.system.common.exception.ErrorCode;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("AiClient 단위 테스트")
+class AiClientTest {
+
+    private static final String SUCCESS_BODY = """
+            {"content":[{"type":"text","text":"{\\"recommendations\\":[]}"}]}
+            """;
+
+    private HttpServer server;
+    private final AtomicInteger requests = new AtomicInteger();
+    private volatile int status = 200;
+    private volatile long delayMillis;
+    private volatile CountDownLatch gate = new CountDownLatch(0);
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/v1/messages", exchange -> {
+            requests.incrementAndGet();
+            try {
+                gate.await(5, TimeUnit.SECONDS);
+                Thread.sleep(delayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = SUCCESS_BODY.getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(status, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("정상 응답이면 텍스트 블록 반환")
+    void generateRecommendations_Success() {
+        AiClient aiClient = client(Duration.ofSeconds(2), 10, 3);
+
+        String result = aiClient.generateRecommendations("prompt").join();
+
+        assertThat(result).isEqualTo("{\"recommendations\":[]}");
+    }
+
+    @Test
+    @DisplayName("응답이 읽기 타임아웃을 넘기면 외부 API 오류")
+    void generateRecommendations_SlowUpstream_TimesOut() {
+        delayMillis = 1_000;
+        AiClient aiClient = client(Duration.ofMillis(200), 10, 3);
+
+        assertThatThrownBy(() -> aiClient.generateRecommendations("prompt").join())
+                .hasCauseInstanceOf(BusinessException.class)
+                .cause()
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.EXTERNAL_API_ERROR);
+    }
+
+    @Test
+    @DisplayName("연속 실패가 임계치를 넘으면 서킷이 열려 즉시 실패")
+    void generateRecommendations_RepeatedFailures_OpensCircuit() {
+        status = 500;
+        AiClient aiClient = client(Duration.ofSeconds(2), 10, 2);
+
+        for (int i = 0; i < 2; i++) {
+            assertThat(aiClient.generateRecommendations("prompt")).failsWithin(Duration.ofSeconds(5));
+        }
+        CompletableFuture<String> rejected = aiClient.generateRecommendations("prompt");
+
+        assertThat(rejected).isCompletedExceptionally();
+        assertThat(aiClient.getCircuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(requests).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("동시 호출 수가 벌크헤드를 넘으면 즉시 실패")
+    void generateRecommendations_BulkheadFull_Rejects() {
+        gate = new CountDownLatch(1);
+        AiClient aiClient = client(Duration.ofSeconds(5), 1, 3);
+
+        CompletableFuture<String> inFlight = aiClient.generateRecommendations("prompt");
+        CompletableFuture<String> rejected = aiClient.generateRecommendations("prompt");
+
+        assertThat(rejected).isCompletedExceptionally();
+
+        gate.countDown();
+        assertThat(inFlight.join()).isEqualTo("{\"recommendations\":[]}");
+        assertThat(aiClient.getCircuitState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    private AiClient client(Duration readTimeout, int maxConcurrentRequests, int failureThreshold) {
+        AiClientProperties properties = new AiClientProperties(
+                "http://127.0.0.1:" + server.getAddress().getPort() + "/v1",
+                "test-key",
+                "test-model",
+                256,
+                false,
+                Duration.ofSeconds(1),
+                readTimeout,
+                maxConcurrentRequests,
+                failureThreshold,
+                Duration.ofMinutes(1)
+        );
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(properties.connectTimeout())
+                .build();
+        return new AiClient(httpClient, properties, new ObjectMapper());
+    }
+}
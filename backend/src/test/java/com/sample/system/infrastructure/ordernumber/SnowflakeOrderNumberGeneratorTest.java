@@ -0,0 +1,94 @@
+package com.sample.system.infrastructure.ordernumber;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("SnowflakeOrderNumberGenerator 단위 테스트")
+class SnowflakeOrderNumberGeneratorTest {
+
+    @Test
+    @DisplayName("여러 스레드에서 동시에 발급해도 중복 없이 스레드별로 증가")
+    void nextOrderNumber_Concurrent_UniqueAndOrdered() throws Exception {
+        SnowflakeOrderNumberGenerator generator = new SnowflakeOrderNumberGenerator(7);
+        int threads = 8;
+        int perThread = 100_000;
+        Set<String> issued = ConcurrentHashMap.newKeySet(threads * perThread);
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        long elapsedNanos;
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    String previous = "";
+                    boolean ordered = true;
+                    for (int i = 0; i < perThread; i++) {
+                        String orderNumber = generator.nextOrderNumber();
+                        ordered &= orderNumber.compareTo(previous) > 0;
+                        issued.add(orderNumber);
+                        previous = orderNumber;
+                    }
+                    return ordered;
+                }));
+            }
+
+            long startedAt = System.nanoTime();
+            start.countDown();
+            for (Future<Boolean> result : results) {
+                assertThat(result.get(30, TimeUnit.SECONDS)).isTrue();
+            }
+            elapsedNanos = System.nanoTime() - startedAt;
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(issued).hasSize(threads * perThread);
+        System.out.printf("Issued %d order numbers on %d threads in %d ms (%.0f/s)%n",
+                issued.size(), threads, TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                issued.size() / (elapsedNanos / 1_000_000_000.0));
+    }
+
+    @Test
+    @DisplayName("시계가 뒤로 가거나 시퀀스가 소진되어도 단조 증가")
+    void nextId_ClockBackwardsAndSequenceExhausted_Monotonic() {
+        AtomicLong now = new AtomicLong(SnowflakeOrderNumberGenerator.EPOCH_MILLIS + 1_000);
+        SnowflakeOrderNumberGenerator generator = new SnowflakeOrderNumberGenerator(1, now::get);
+
+        long previous = generator.nextId();
+        for (int i = 0; i < 10_000; i++) {
+            if (i == 5_000) {
+                now.addAndGet(-500);
+            }
+            long next = generator.nextId();
+            assertThat(next).isGreaterThan(previous);
+            previous = next;
+        }
+    }
+
+    @Test
+    @DisplayName("노드 ID가 다르면 같은 시각에도 다른 주문번호")
+    void nextOrderNumber_DifferentNodes_Distinct() {
+        long fixed = SnowflakeOrderNumberGenerator.EPOCH_MILLIS + 42;
+        SnowflakeOrderNumberGenerator first = new SnowflakeOrderNumberGenerator(1, () -> fixed);
+        SnowflakeOrderNumberGenerator second = new SnowflakeOrderNumberGenerator(2, () -> fixed);
+
+        assertThat(first.nextOrderNumber()).isNotEqualTo(second.nextOrderNumber()).startsWith("ORD-").hasSize(17);
+        assertThatThrownBy(() -> new SnowflakeOrderNumberGenerator(1024))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
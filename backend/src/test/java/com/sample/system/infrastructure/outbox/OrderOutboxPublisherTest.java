@@ -0,0 +1,81 @@
+package com.sample.system.infrastructure.outbox;
+
+import com.sample.system.domain.order.OrderEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderOutboxPublisher 단위 테스트")
+class OrderOutboxPublisherTest {
+
+    @Mock
+    private OrderOutboxRepository orderOutboxRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private final InMemoryOrderEventSink sink = new InMemoryOrderEventSink();
+
+    private OrderOutboxPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        publisher = new OrderOutboxPublisher(orderOutboxRepository, List.of(sink), transactionTemplate,
+                new OrderOutboxProperties(true, 2, Duration.ofMillis(500), Path.of("unused")));
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    @Test
+    @DisplayName("배치 단위로 순서대로 발행하고 발행된 행을 삭제")
+    void drain_PublishesInOrderAndDeletes() {
+        when(orderOutboxRepository.findPublishBatch(any(Pageable.class)))
+                .thenReturn(List.of(event(1L, 10L), event(2L, 10L)))
+                .thenReturn(List.of(event(3L, 11L)));
+
+        int published = publisher.drain();
+
+        assertThat(published).isEqualTo(3);
+        assertThat(sink.getPublished()).extracting(OrderEventMessage::id).containsExactly(1L, 2L, 3L);
+        verify(orderOutboxRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+        verify(orderOutboxRepository).deleteAllByIdInBatch(List.of(3L));
+    }
+
+    @Test
+    @DisplayName("싱크 실패 시 행을 남겨 다음 주기에 재발행")
+    void drain_SinkFailure_KeepsRows() {
+        OrderEventSink failing = messages -> {
+            throw new IllegalStateException("sink down");
+        };
+        publisher = new OrderOutboxPublisher(orderOutboxRepository, List.of(failing), transactionTemplate,
+                new OrderOutboxProperties(true, 2, Duration.ofMillis(500), Path.of("unused")));
+        when(orderOutboxRepository.findPublishBatch(any(Pageable.class))).thenReturn(List.of(event(1L, 10L)));
+
+        int published = publisher.drain();
+
+        assertThat(published).isZero();
+        verify(orderOutboxRepository, never()).deleteAllByIdInBatch(any());
+    }
+
+    private OrderOutboxEvent event(Long id, Long orderId) {
+        OrderOutboxEvent event = new OrderOutboxEvent(orderId, OrderEvent.Type.STATUS_CHANGED, "{}");
+        ReflectionTestUtils.setField(event, "id", id);
+        return event;
+    }
+}
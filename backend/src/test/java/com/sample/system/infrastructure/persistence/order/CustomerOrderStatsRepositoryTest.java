@@ -0,0 +1,87 @@
+package com.sample.system.infrastructure.persistence.order;
+
+import com.sample.system.domain.common.Money;
+import com.sample.system.domain.order.Order;
+import com.sample.system.domain.order.OrderItem;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest
+@DisplayName("CustomerOrderStatsRepository 테스트")
+class CustomerOrderStatsRepositoryTest {
+
+    @Autowired
+    private CustomerOrderStatsRepository customerOrderStatsRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    @DisplayName("증분 UPDATE는 건수와 누적 금액을 더하고 행이 없으면 0을 반환")
+    void increment_AddsToExistingRowOnly() {
+        entityManager.persistAndFlush(new CustomerOrderStats(100L, 1, Money.ofMinor(1000)));
+
+        int updated = customerOrderStatsRepository.increment(100L, 2, new BigDecimal("15.50"));
+        int missing = customerOrderStatsRepository.increment(200L, 1, BigDecimal.TEN);
+
+        entityManager.clear();
+        CustomerOrderStats stats = customerOrderStatsRepository.findById(100L).orElseThrow();
+        assertThat(updated).isEqualTo(1);
+        assertThat(missing).isZero();
+        assertThat(stats.getOrderCount()).isEqualTo(3);
+        assertThat(stats.getLifetimeSpend()).isEqualTo(Money.ofMinor(2550));
+    }
+
+    @Test
+    @DisplayName("불일치 조회는 행이 없거나 값이 다른 고객만 반환하고 취소 주문은 금액에서 뺀다")
+    void findDrift_ReturnsMissingAndStaleCustomers() {
+        persistOrder(100L, 1000, false);
+        persistOrder(100L, 500, true);
+        entityManager.persist(new CustomerOrderStats(100L, 2, Money.ofMinor(1000)));
+        persistOrder(200L, 700, false);
+        persistOrder(300L, 300, false);
+        entityManager.persist(new CustomerOrderStats(300L, 1, Money.ofMinor(200)));
+        entityManager.flush();
+
+        List<Object[]> drift = customerOrderStatsRepository.findDrift();
+
+        assertThat(drift).hasSize(2);
+        assertThat(((Number) drift.get(0)[0]).longValue()).isEqualTo(200L);
+        assertThat(((Number) drift.get(0)[1]).longValue()).isEqualTo(1L);
+        assertThat(Money.of((BigDecimal) drift.get(0)[2])).isEqualTo(Money.ofMinor(700));
+        assertThat(drift.get(0)[3]).isNull();
+        assertThat(drift.get(0)[4]).isNull();
+        assertThat(((Number) drift.get(1)[0]).longValue()).isEqualTo(300L);
+        assertThat(Money.of((BigDecimal) drift.get(1)[2])).isEqualTo(Money.ofMinor(300));
+        assertThat(Money.of((BigDecimal) drift.get(1)[4])).isEqualTo(Money.ofMinor(200));
+    }
+
+    @Test
+    @DisplayName("덮어쓰기 후에는 불일치가 남지 않는다")
+    void overwrite_ClearsDrift() {
+        persistOrder(300L, 300, false);
+        entityManager.persistAndFlush(new CustomerOrderStats(300L, 5, Money.ofMinor(200)));
+
+        int updated = customerOrderStatsRepository.overwrite(300L, 1, new BigDecimal("3.00"));
+
+        assertThat(updated).isEqualTo(1);
+        assertThat(customerOrderStatsRepository.findDrift()).isEmpty();
+    }
+
+    private void persistOrder(Long customerId, long amountMinor, boolean cancelled) {
+        Order order = new Order("ORD-" + customerId + "-" + amountMinor, customerId, "Customer " + customerId);
+        order.addOrderItem(new OrderItem(1L, "Product 1", 1, Money.ofMinor(amountMinor)));
+        if (cancelled) {
+            order.cancel();
+        }
+        entityManager.persist(order);
+    }
+}
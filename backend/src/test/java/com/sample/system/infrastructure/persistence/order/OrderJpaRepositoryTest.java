@@ -0,0 +1,75 @@
+package com.sample.system.infrastructure.persistence.order;
+
+import com.sample.system.domain.common.Money;
+import com.sample.system.domain.order.Order;
+import com.sample.system.domain.order.OrderItem;
+import com.sample.system.domain.order.OrderStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest
+@DisplayName("OrderJpaRepository 테스트")
+class OrderJpaRepositoryTest {
+
+    @Autowired
+    private OrderJpaRepository orderJpaRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    @DisplayName("상태 전이 UPDATE는 원래 상태인 주문만 옮기고 버전과 수정 시각을 바꾼다")
+    void transitionStatus_MovesOnlySourceStatus() {
+        Order pending = persistOrder("ORD-1");
+        Order confirmed = persistOrder("ORD-2");
+        confirmed.confirm();
+        entityManager.flush();
+        Long confirmedVersion = confirmed.getVersion();
+        LocalDateTime marker = LocalDateTime.now().plusMinutes(1).truncatedTo(ChronoUnit.MICROS);
+
+        int moved = orderJpaRepository.transitionStatus(
+                List.of(pending.getId(), confirmed.getId()), OrderStatus.CONFIRMED, OrderStatus.SHIPPING, marker);
+
+        assertThat(moved).isEqualTo(1);
+        Order shipped = entityManager.find(Order.class, confirmed.getId());
+        assertThat(shipped.getStatus()).isEqualTo(OrderStatus.SHIPPING);
+        assertThat(shipped.getUpdatedAt()).isEqualTo(marker);
+        assertThat(shipped.getVersion()).isEqualTo(confirmedVersion + 1);
+        assertThat(entityManager.find(Order.class, pending.getId()).getStatus()).isEqualTo(OrderStatus.PENDING);
+    }
+
+    @Test
+    @DisplayName("마이크로초 마커로 이번 호출이 옮긴 주문만 찾고 이미 대상 상태였던 주문은 제외한다")
+    void findTransitionedAt_ReturnsOnlyRowsWithMarker() {
+        Order earlier = persistOrder("ORD-1");
+        Order moved = persistOrder("ORD-2");
+        LocalDateTime firstMarker = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        orderJpaRepository.transitionStatus(
+                List.of(earlier.getId()), OrderStatus.PENDING, OrderStatus.CONFIRMED, firstMarker);
+        LocalDateTime marker = firstMarker.plusNanos(1_000);
+
+        orderJpaRepository.transitionStatus(
+                List.of(earlier.getId(), moved.getId()), OrderStatus.PENDING, OrderStatus.CONFIRMED, marker);
+        List<OrderTransitionRow> rows = orderJpaRepository.findTransitionedAt(
+                List.of(earlier.getId(), moved.getId()), OrderStatus.CONFIRMED, marker);
+
+        assertThat(rows).extracting(OrderTransitionRow::id).containsExactly(moved.getId());
+        assertThat(rows.get(0).customerId()).isEqualTo(100L);
+        assertThat(rows.get(0).totalAmount()).isEqualTo(Money.ofMinor(2000));
+    }
+
+    private Order persistOrder(String orderNumber) {
+        Order order = new Order(orderNumber, 100L, "John Doe");
+        order.addOrderItem(new OrderItem(1L, "Product 1", 2, Money.ofMinor(1000)));
+        return entityManager.persistFlushFind(order);
+    }
+}
@@ -0,0 +1,130 @@
+package com.sample.system.infrastructure.persistence.order;
+
+import com.sample.system.domain.common.Money;
+import com.sample.system.domain.order.Order;
+import com.sample.system.domain.order.OrderItem;
+import com.sample.system.domain.order.OrderStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest
+@DisplayName("OrderSummaryRepository 테스트")
+class OrderSummaryRepositoryTest {
+
+    @Autowired
+    private OrderSummaryRepository orderSummaryRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    @DisplayName("요약 행이 없는 주문은 품목 수와 금액을 담아 새로 만든다")
+    void upsertFromOrders_MissingRow_Inserted() {
+        Order order = persistOrder("ORD-1", 2);
+
+        int rows = orderSummaryRepository.upsertFromOrders(List.of(order.getId()));
+
+        OrderSummary summary = findSummary(order.getId());
+        assertThat(rows).isEqualTo(1);
+        assertThat(summary.getOrderNumber()).isEqualTo("ORD-1");
+        assertThat(summary.getItemCount()).isEqualTo(2);
+        assertThat(summary.getTotalAmount()).isEqualTo(Money.ofMinor(2000));
+        assertThat(summary.getStatus()).isEqualTo(OrderStatus.PENDING);
+    }
+
+    @Test
+    @DisplayName("주문이 요약 행보다 새로우면 덮어쓴다")
+    void upsertFromOrders_NewerOrder_Updated() {
+        Order order = persistOrder("ORD-1", 1);
+        orderSummaryRepository.upsertFromOrders(List.of(order.getId()));
+        entityManager.clear();
+
+        setOrderState(order.getId(), OrderStatus.CONFIRMED, LocalDateTime.now().plusMinutes(1));
+        orderSummaryRepository.upsertFromOrders(List.of(order.getId()));
+
+        assertThat(findSummary(order.getId()).getStatus()).isEqualTo(OrderStatus.CONFIRMED);
+    }
+
+    @Test
+    @DisplayName("요약 행보다 오래된 주문 스냅샷은 행을 되돌리지 않는다")
+    void upsertFromOrders_OlderOrder_Kept() {
+        Order order = persistOrder("ORD-1", 1);
+        setOrderState(order.getId(), OrderStatus.CONFIRMED, LocalDateTime.now().plusMinutes(1));
+        orderSummaryRepository.upsertFromOrders(List.of(order.getId()));
+
+        setOrderState(order.getId(), OrderStatus.PENDING, LocalDateTime.now());
+        int rows = orderSummaryRepository.upsertFromOrders(List.of(order.getId()));
+
+        assertThat(rows).isZero();
+        assertThat(findSummary(order.getId()).getStatus()).isEqualTo(OrderStatus.CONFIRMED);
+    }
+
+    @Test
+    @DisplayName("범위 upsert는 범위 안의 주문만 반영하고 주문이 사라진 행만 지운다")
+    void upsertFromOrderRange_AndDeleteOrphans() {
+        Order first = persistOrder("ORD-1", 1);
+        Order second = persistOrder("ORD-2", 1);
+        Order outside = persistOrder("ORD-3", 1);
+        orderSummaryRepository.upsertFromOrders(List.of(second.getId()));
+        entityManager.getEntityManager().createQuery("DELETE FROM OrderItem i WHERE i.order.id = :id")
+                .setParameter("id", second.getId())
+                .executeUpdate();
+        entityManager.getEntityManager().createQuery("DELETE FROM Order o WHERE o.id = :id")
+                .setParameter("id", second.getId())
+                .executeUpdate();
+
+        int rows = orderSummaryRepository.upsertFromOrderRange(first.getId(), second.getId());
+        int orphans = orderSummaryRepository.deleteOrphansInOrderIdRange(first.getId(), second.getId());
+
+        assertThat(rows).isEqualTo(1);
+        assertThat(orphans).isEqualTo(1);
+        entityManager.clear();
+        assertThat(orderSummaryRepository.findAll())
+                .extracting(OrderSummary::getOrderId)
+                .containsExactly(first.getId())
+                .doesNotContain(outside.getId());
+    }
+
+    @Test
+    @DisplayName("id 목록의 고아 행 삭제는 주문이 남아 있는 행을 건드리지 않는다")
+    void deleteOrphansByOrderIdIn_KeepsRowsWithOrders() {
+        Order order = persistOrder("ORD-1", 1);
+        orderSummaryRepository.upsertFromOrders(List.of(order.getId()));
+
+        int deleted = orderSummaryRepository.deleteOrphansByOrderIdIn(List.of(order.getId(), order.getId() + 1000));
+
+        assertThat(deleted).isZero();
+        assertThat(orderSummaryRepository.count()).isEqualTo(1);
+    }
+
+    private Order persistOrder(String orderNumber, int itemCount) {
+        Order order = new Order(orderNumber, 100L, "John Doe");
+        for (int i = 0; i < itemCount; i++) {
+            order.addOrderItem(new OrderItem((long) i + 1, "Product " + (i + 1), 1, Money.ofMinor(1000)));
+        }
+        return entityManager.persistFlushFind(order);
+    }
+
+    private void setOrderState(Long orderId, OrderStatus status, LocalDateTime updatedAt) {
+        entityManager.getEntityManager()
+                .createQuery("UPDATE Order o SET o.status = :status, o.updatedAt = :updatedAt WHERE o.id = :id")
+                .setParameter("status", status)
+                .setParameter("updatedAt", updatedAt)
+                .setParameter("id", orderId)
+                .executeUpdate();
+        entityManager.clear();
+    }
+
+    private OrderSummary findSummary(Long orderId) {
+        entityManager.clear();
+        return orderSummaryRepository.findById(orderId).orElseThrow();
+    }
+}
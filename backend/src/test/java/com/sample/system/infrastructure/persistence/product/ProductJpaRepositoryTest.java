@@ -0,0 +1,71 @@
+package com.sample.system.infrastructure.persistence.product;
+
+import com.sample.system.domain.product.Product;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest
+@DisplayName("ProductJpaRepository 테스트")
+class ProductJpaRepositoryTest {
+
+    @Autowired
+    private ProductJpaRepository productJpaRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    @DisplayName("재고가 충분하면 차감하고 남은 재고를 정확히 0까지 쓸 수 있다")
+    void decreaseStock_EnoughStock_Decremented() {
+        Product product = persistProduct(5);
+
+        assertThat(productJpaRepository.decreaseStock(product.getId(), 3)).isEqualTo(1);
+        assertThat(productJpaRepository.decreaseStock(product.getId(), 2)).isEqualTo(1);
+
+        assertThat(stockOf(product)).isZero();
+    }
+
+    @Test
+    @DisplayName("재고가 모자라면 UPDATE가 아무 행도 바꾸지 않아 재고가 음수가 되지 않는다")
+    void decreaseStock_InsufficientStock_Untouched() {
+        Product product = persistProduct(2);
+
+        int updated = productJpaRepository.decreaseStock(product.getId(), 3);
+
+        assertThat(updated).isZero();
+        assertThat(stockOf(product)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("없는 상품은 차감도 반환도 0을 반환")
+    void stockUpdates_MissingProduct_ReturnZero() {
+        assertThat(productJpaRepository.decreaseStock(-1L, 1)).isZero();
+        assertThat(productJpaRepository.increaseStock(-1L, 1)).isZero();
+    }
+
+    @Test
+    @DisplayName("반환은 재고를 더한다")
+    void increaseStock_AddsQuantity() {
+        Product product = persistProduct(2);
+
+        assertThat(productJpaRepository.increaseStock(product.getId(), 3)).isEqualTo(1);
+
+        assertThat(stockOf(product)).isEqualTo(5);
+    }
+
+    private Product persistProduct(int stock) {
+        return entityManager.persistFlushFind(new Product("Test Product", BigDecimal.valueOf(10), stock));
+    }
+
+    private int stockOf(Product product) {
+        entityManager.clear();
+        return entityManager.find(Product.class, product.getId()).getStock();
+    }
+}
@@ -0,0 +1,73 @@
+package com.sample.system.infrastructure.persistence.product;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest
+@DisplayName("StockReservationRepository 테스트")
+class StockReservationRepositoryTest {
+
+    @Autowired
+    private StockReservationRepository stockReservationRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private final LocalDateTime now = LocalDateTime.now();
+
+    @Test
+    @DisplayName("예약 id로 상품 순서대로 예약 행을 읽는다")
+    void findByReservationId_OrderedByProduct() {
+        persist("r-1", 3L, 1, now);
+        persist("r-1", 1L, 2, now);
+        persist("r-2", 2L, 1, now);
+
+        List<StockReservation> lines = stockReservationRepository.findByReservationIdOrderByProductId("r-1");
+
+        assertThat(lines).extracting(StockReservation::getProductId).containsExactly(1L, 3L);
+        assertThat(lines).extracting(StockReservation::getQuantity).containsExactly(2, 1);
+    }
+
+    @Test
+    @DisplayName("예약 삭제는 처음 지운 쪽만 행 수를 받고 두 번째 확정·해제는 0을 받는다")
+    void deleteByReservationId_SecondDeleteSeesNothing() {
+        persist("r-1", 1L, 2, now);
+        persist("r-1", 2L, 1, now);
+        persist("r-2", 1L, 1, now);
+
+        assertThat(stockReservationRepository.deleteByReservationId("r-1")).isEqualTo(2);
+        assertThat(stockReservationRepository.deleteByReservationId("r-1")).isZero();
+        assertThat(stockReservationRepository.findByReservationIdOrderByProductId("r-2")).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("기준 시각 이전 예약만 한 번씩, 배치 크기만큼 찾는다")
+    void findReservationIdsReservedBefore_DistinctExpiredOnly() {
+        persist("old-1", 1L, 1, now.minusMinutes(10));
+        persist("old-1", 2L, 1, now.minusMinutes(10));
+        persist("old-2", 1L, 1, now.minusMinutes(7));
+        persist("old-3", 1L, 1, now.minusMinutes(6));
+        persist("fresh", 1L, 1, now);
+
+        List<String> all = stockReservationRepository.findReservationIdsReservedBefore(
+                now.minusMinutes(5), PageRequest.ofSize(10));
+        List<String> batch = stockReservationRepository.findReservationIdsReservedBefore(
+                now.minusMinutes(5), PageRequest.ofSize(2));
+
+        assertThat(all).containsExactlyInAnyOrder("old-1", "old-2", "old-3");
+        assertThat(batch).hasSize(2).doesNotHaveDuplicates().doesNotContain("fresh");
+    }
+
+    private void persist(String reservationId, Long productId, int quantity, LocalDateTime reservedAt) {
+        entityManager.persistAndFlush(new StockReservation(reservationId, productId, quantity, reservedAt));
+    }
+}
@@ -1,8 +1,18 @@
 package com.sample.system.presentation.order;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sample.system.application.order.BulkOrderResult;
+import com.sample.system.application.order.IdempotentOrderResult;
 import com.sample.system.application.order.OrderApplicationService;
 import com.sample.system.application.order.OrderDto;
+import com.sample.system.application.order.OrderExportFormat;
+import com.sample.system.application.order.OrderIdempotencyService;
+import com.sample.system.application.order.OrderPage;
+import com.sample.system.application.order.OrderSummaryDto;
+import com.sample.system.application.order.OrderTransitionResult;
+import com.sample.system.common.ratelimit.CustomerRateLimiter;
+import com.sample.system.common.ratelimit.RateLimitExceededException;
+import com.sample.system.domain.common.Money;
 import com.sample.system.domain.order.OrderStatus;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -11,12 +21,17 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
-import java.math.BigDecimal;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -34,6 +49,12 @@ class OrderControllerTest {
     @MockBean
     private OrderApplicationService orderApplicationService;
 
+    @MockBean
+    private OrderIdempotencyService orderIdempotencyService;
+
+    @MockBean
+    private CustomerRateLimiter orderCreationRateLimiter;
+
     @Test
     @DisplayName("POST /api/orders - 주문 생성 성공")
     void createOrder_Success() throws Exception {
@@ -43,9 +64,7 @@ class OrderControllerTest {
                 .items(List.of(
                         CreateOrderRequest.OrderItemRequest.builder()
                                 .productId(1L)
-                                .productName("Book A")
                                 .quantity(2)
-                                .unitPrice(BigDecimal.valueOf(10.00))
                                 .build()
                 ))
                 .build();
@@ -56,7 +75,7 @@ class OrderControllerTest {
                 .customerId(100L)
                 .customerName("John Doe")
                 .status(OrderStatus.PENDING)
-                .totalAmount(BigDecimal.valueOf(20.00))
+                .totalAmount(Money.parse("20.00"))
                 .orderItems(List.of())
                 .createdAt(LocalDateTime.now())
                 .updatedAt(LocalDateTime.now())
@@ -71,11 +90,75 @@ class OrderControllerTest {
                 .andExpect(jsonPath("$.id").value(1L))
                 .andExpect(jsonPath("$.orderNumber").value("ORD-TEST"))
                 .andExpect(jsonPath("$.customerId").value(100L))
-                .andExpect(jsonPath("$.status").value("PENDING"));
+                .andExpect(jsonPath("$.status").value("PENDING"))
+                .andExpect(content().string(containsString("\"totalAmount\":20.00")));
 
         verify(orderApplicationService).createOrder(any());
     }
 
+    @Test
+    @DisplayName("POST /api/orders - Idempotency-Key 재전송이면 저장된 주문을 그대로 반환")
+    void createOrder_IdempotencyKey_Replayed() throws Exception {
+        CreateOrderRequest request = CreateOrderRequest.builder()
+                .customerId(100L)
+                .customerName("John Doe")
+                .items(List.of(
+                        CreateOrderRequest.OrderItemRequest.builder()
+                                .productId(1L)
+                                .quantity(2)
+                                .build()
+                ))
+                .build();
+
+        OrderDto stored = OrderDto.builder()
+                .id(1L)
+                .orderNumber("ORD-TEST")
+                .customerId(100L)
+                .status(OrderStatus.PENDING)
+                .totalAmount(Money.parse("20.00"))
+                .orderItems(List.of())
+                .build();
+
+        when(orderIdempotencyService.createOrder(eq("retry-1"), any()))
+                .thenReturn(new IdempotentOrderResult(stored, true));
+
+        mockMvc.perform(post("/api/orders")
+                        .header("Idempotency-Key", "retry-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Idempotent-Replayed", "true"))
+                .andExpect(jsonPath("$.orderNumber").value("ORD-TEST"));
+
+        verify(orderApplicationService, never()).createOrder(any());
+    }
+
+    @Test
+    @DisplayName("POST /api/orders - 본문의 고객이 한도를 넘으면 429와 Retry-After")
+    void createOrder_CustomerOverLimit_Returns429() throws Exception {
+        CreateOrderRequest request = CreateOrderRequest.builder()
+                .customerId(100L)
+                .customerName("John Doe")
+                .items(List.of(
+                        CreateOrderRequest.OrderItemRequest.builder()
+                                .productId(1L)
+                                .quantity(2)
+                                .build()
+                ))
+                .build();
+
+        doThrow(new RateLimitExceededException(1_500_000_000L)).when(orderCreationRateLimiter).acquire(100L);
+
+        mockMvc.perform(post("/api/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "2"))
+                .andExpect(jsonPath("$.code").value("RATE001"));
+
+        verifyNoInteractions(orderApplicationService, orderIdempotencyService);
+    }
+
     @Test
     @DisplayName("POST /api/orders - 유효성 검증 실패 (빈 customerId)")
     void createOrder_Validation_Fail() throws Exception {
@@ -85,9 +168,7 @@ class OrderControllerTest {
                 .items(List.of(
                         CreateOrderRequest.OrderItemRequest.builder()
                                 .productId(1L)
-                                .productName("Book A")
                                 .quantity(2)
-                                .unitPrice(BigDecimal.valueOf(10.00))
                                 .build()
                 ))
                 .build();
@@ -100,6 +181,145 @@ class OrderControllerTest {
         verify(orderApplicationService, never()).createOrder(any());
     }
 
+    @Test
+    @DisplayName("POST /api/orders/bulk - 주문별 결과 반환")
+    void createOrders_PerItemResults() throws Exception {
+        CreateOrderRequest valid = CreateOrderRequest.builder()
+                .customerId(100L)
+                .customerName("John Doe")
+                .items(List.of(
+                        CreateOrderRequest.OrderItemRequest.builder()
+                                .productId(1L)
+                                .quantity(2)
+                                .build()
+                ))
+                .build();
+        CreateOrderRequest invalid = CreateOrderRequest.builder()
+                .customerName("John Doe")
+                .build();
+        BulkCreateOrderRequest request = BulkCreateOrderRequest.builder()
+                .orders(List.of(valid, invalid))
+                .build();
+
+        when(orderApplicationService.createOrders(any())).thenReturn(List.of(
+                BulkOrderResult.builder().index(0).success(true).orderId(1L).orderNumber("ORD-TEST").build(),
+                BulkOrderResult.builder().index(1).success(false).errorCode("VAL001").message("Validation failed").build()
+        ));
+
+        mockMvc.perform(post("/api/orders/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].orderNumber").value("ORD-TEST"))
+                .andExpect(jsonPath("$[1].success").value(false))
+                .andExpect(jsonPath("$[1].errorCode").value("VAL001"));
+
+        verify(orderApplicationService).createOrders(argThat(commands -> commands.size() == 2));
+    }
+
+    @Test
+    @DisplayName("POST /api/orders/bulk - 본문의 고객마다 주문 수만큼 한도를 차감하고 넘으면 429")
+    void createOrders_CustomerOverLimit_Returns429() throws Exception {
+        CreateOrderRequest first = CreateOrderRequest.builder()
+                .customerId(100L)
+                .customerName("John Doe")
+                .items(List.of(CreateOrderRequest.OrderItemRequest.builder().productId(1L).quantity(1).build()))
+                .build();
+        CreateOrderRequest second = CreateOrderRequest.builder()
+                .customerId(200L)
+                .customerName("Jane Doe")
+                .items(List.of(CreateOrderRequest.OrderItemRequest.builder().productId(1L).quantity(1).build()))
+                .build();
+        BulkCreateOrderRequest request = BulkCreateOrderRequest.builder()
+                .orders(List.of(first, second, first))
+                .build();
+
+        doThrow(new RateLimitExceededException(1_500_000_000L)).when(orderCreationRateLimiter).acquire(100L, 2);
+
+        mockMvc.perform(post("/api/orders/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "2"))
+                .andExpect(jsonPath("$.code").value("RATE001"));
+
+        verify(orderCreationRateLimiter).acquire(100L, 2);
+        verifyNoInteractions(orderApplicationService);
+    }
+
+    @Test
+    @DisplayName("POST /api/orders/bulk - null 항목은 500이 아닌 400")
+    void createOrders_NullEntry_BadRequest() throws Exception {
+        mockMvc.perform(post("/api/orders/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"orders\":[null]}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("VAL001"));
+
+        verifyNoInteractions(orderApplicationService);
+    }
+
+    @Test
+    @DisplayName("POST /api/orders/bulk - 항목의 필드 검증 실패는 400이 아닌 해당 항목 결과로 반환")
+    void createOrders_InvalidEntry_ReportedPerItem() throws Exception {
+        CreateOrderRequest invalid = CreateOrderRequest.builder()
+                .customerName("John Doe")
+                .build();
+        BulkCreateOrderRequest request = BulkCreateOrderRequest.builder()
+                .orders(List.of(invalid))
+                .build();
+
+        when(orderApplicationService.createOrders(any())).thenReturn(List.of(
+                BulkOrderResult.builder().index(0).success(false).errorCode("VAL001").message("customerId: Customer ID is required").build()
+        ));
+
+        mockMvc.perform(post("/api/orders/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].index").value(0))
+                .andExpect(jsonPath("$[0].success").value(false))
+                .andExpect(jsonPath("$[0].errorCode").value("VAL001"));
+
+        verify(orderApplicationService).createOrders(argThat(commands ->
+                commands.size() == 1 && commands.get(0).customerId() == null && commands.get(0).orderItems() == null));
+    }
+
+    @Test
+    @DisplayName("POST /api/orders/transitions - 이동/거절 주문 목록 반환")
+    void transitionOrders_ReturnsMovedAndRejected() throws Exception {
+        OrderTransitionRequest request = OrderTransitionRequest.builder()
+                .targetStatus(OrderStatus.SHIPPING)
+                .orderIds(List.of(1L, 2L))
+                .build();
+
+        when(orderApplicationService.transitionOrders(OrderStatus.SHIPPING, List.of(1L, 2L)))
+                .thenReturn(OrderTransitionResult.builder()
+                        .targetStatus(OrderStatus.SHIPPING)
+                        .transitioned(List.of(1L))
+                        .rejected(List.of(new OrderTransitionResult.Rejection(2L, OrderStatus.PENDING, "ORD002")))
+                        .build());
+
+        mockMvc.perform(post("/api/orders/transitions")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.transitioned[0]").value(1L))
+                .andExpect(jsonPath("$.rejected[0].orderId").value(2L))
+                .andExpect(jsonPath("$.rejected[0].currentStatus").value("PENDING"));
+    }
+
+    @Test
+    @DisplayName("POST /api/orders/transitions - 빈 주문 목록은 유효성 검증 실패")
+    void transitionOrders_EmptyIds_Fail() throws Exception {
+        mockMvc.perform(post("/api/orders/transitions")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"targetStatus\":\"SHIPPING\",\"orderIds\":[]}"))
+                .andExpect(status().isBadRequest());
+
+        verify(orderApplicationService, never()).transitionOrders(any(), any());
+    }
+
     @Test
     @DisplayName("GET /api/orders/{orderId} - 주문 조회 성공")
     void getOrder_Success() throws Exception {
@@ -110,7 +330,7 @@ class OrderControllerTest {
                 .customerId(100L)
                 .customerName("John Doe")
                 .status(OrderStatus.PENDING)
-                .totalAmount(BigDecimal.valueOf(20.00))
+                .totalAmount(Money.parse("20.00"))
                 .orderItems(List.of())
                 .createdAt(LocalDateTime.now())
                 .updatedAt(LocalDateTime.now())
@@ -126,6 +346,87 @@ class OrderControllerTest {
         verify(orderApplicationService).getOrder(orderId);
     }
 
+    @Test
+    @DisplayName("GET /api/orders - 주문 검색 시 다음 커서를 헤더로 반환")
+    void searchOrders_NextCursorHeader() throws Exception {
+        OrderSummaryDto order = OrderSummaryDto.builder()
+                .id(1L)
+                .orderNumber("ORD-TEST")
+                .customerId(100L)
+                .customerName("John Doe")
+                .status(OrderStatus.PENDING)
+                .totalAmount(Money.parse("20.00"))
+                .itemCount(2)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+
+        when(orderApplicationService.searchOrders(any())).thenReturn(new OrderPage(List.of(order), "next-cursor"));
+
+        mockMvc.perform(get("/api/orders")
+                        .param("customerId", "100")
+                        .param("status", "PENDING")
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Next-Cursor", "next-cursor"))
+                .andExpect(jsonPath("$[0].orderNumber").value("ORD-TEST"))
+                .andExpect(jsonPath("$[0].itemCount").value(2));
+
+        verify(orderApplicationService).searchOrders(argThat(criteria ->
+                criteria.customerId() == 100L
+                        && criteria.status() == OrderStatus.PENDING
+                        && criteria.size() == 1));
+    }
+
+    @Test
+    @DisplayName("GET /api/orders/export - CSV 스트리밍 내보내기")
+    void exportOrders_Csv_Streams() throws Exception {
+        doAnswer(invocation -> {
+            invocation.getArgument(2, OutputStream.class).write("order_id\n1\n".getBytes(StandardCharsets.UTF_8));
+            return 1L;
+        }).when(orderApplicationService).exportOrders(any(), eq(OrderExportFormat.CSV), any());
+
+        MvcResult result = mockMvc.perform(get("/api/orders/export")
+                        .param("format", "CSV")
+                        .param("status", "DELIVERED"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"orders.csv\""))
+                .andExpect(content().contentType("text/csv"))
+                .andExpect(content().string("order_id\n1\n"));
+
+        verify(orderApplicationService).exportOrders(
+                argThat(criteria -> criteria.status() == OrderStatus.DELIVERED), eq(OrderExportFormat.CSV), any());
+    }
+
+    @Test
+    @DisplayName("GET /api/orders/export - format 값은 대소문자를 구분하지 않음")
+    void exportOrders_LowerCaseFormat_Accepted() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/orders/export")
+                        .param("format", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("text/csv"));
+
+        verify(orderApplicationService).exportOrders(any(), eq(OrderExportFormat.CSV), any());
+    }
+
+    @Test
+    @DisplayName("GET /api/orders/export - 알 수 없는 format 은 400")
+    void exportOrders_UnknownFormat_BadRequest() throws Exception {
+        mockMvc.perform(get("/api/orders/export")
+                        .param("format", "xml"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(orderApplicationService);
+    }
+
     @Test
     @DisplayName("POST /api/orders/{orderId}/confirm - 주문 확정 성공")
     void confirmOrder_Success() throws Exception {
@@ -136,7 +437,7 @@ class OrderControllerTest {
                 .customerId(100L)
                 .customerName("John Doe")
                 .status(OrderStatus.CONFIRMED)
-                .totalAmount(BigDecimal.valueOf(20.00))
+                .totalAmount(Money.parse("20.00"))
                 .orderItems(List.of())
                 .createdAt(LocalDateTime.now())
                 .updatedAt(LocalDateTime.now())
@@ -1,9 +1,10 @@
 package com.sample.mobile.data.repository
 
 import com.sample.mobile.domain.model.Order
+import com.sample.mobile.domain.model.OrderSummary
 
 interface OrderRepository {
-    suspend fun getOrders(customerId: Long): List<Order>
+    suspend fun getOrders(customerId: Long): List<OrderSummary>
     suspend fun getOrder(orderId: Long): Order
     suspend fun confirmOrder(orderId: Long): Order
     suspend fun cancelOrder(orderId: Long): Order
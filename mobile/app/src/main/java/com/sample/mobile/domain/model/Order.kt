@@ -10,6 +10,16 @@ data class Order(
     val createdAt: String
 )
 
+data class OrderSummary(
+    val id: Long,
+    val orderNumber: String,
+    val customerName: String,
+    val status: OrderStatus,
+    val totalAmount: Double,
+    val itemCount: Int,
+    val createdAt: String
+)
+
 data class OrderItem(
     val id: Long,
     val productName: String,
@@ -1,9 +1,9 @@
 package com.sample.mobile.ui.order
 
-import com.sample.mobile.domain.model.Order
+import com.sample.mobile.domain.model.OrderSummary
 
 sealed class OrderUiState {
     object Loading : OrderUiState()
-    data class Success(val orders: List<Order>) : OrderUiState()
+    data class Success(val orders: List<OrderSummary>) : OrderUiState()
     data class Error(val message: String, val code: String? = null) : OrderUiState()
 }
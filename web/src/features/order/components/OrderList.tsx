@@ -1,8 +1,8 @@
 import React from 'react'
-import { Order, OrderStatus } from '../types'
+import { OrderSummary, OrderStatus } from '../types'
 
 interface OrderListProps {
-  orders: Order[]
+  orders: OrderSummary[]
   onOrderClick: (orderId: number) => void
 }
 
@@ -28,7 +28,7 @@ export const OrderList: React.FC<OrderListProps> = ({ orders, onOrderClick }) =>
           <div className="order-body">
             <p><strong>Customer:</strong> {order.customerName}</p>
             <p><strong>Total:</strong> ${order.totalAmount.toFixed(2)}</p>
-            <p><strong>Items:</strong> {order.orderItems.length}</p>
+            <p><strong>Items:</strong> {order.itemCount}</p>
             <p className="order-date">
               {new Date(order.createdAt).toLocaleDateString()}
             </p>
@@ -1,12 +1,12 @@
 import { create } from 'zustand'
-import { Order, CreateOrderRequest } from '../types'
+import { Order, OrderSummary, CreateOrderRequest, toOrderSummary } from '../types'
 import { apiClient } from '@/shared/api/client'
 import { endpoints } from '@/shared/api/endpoints'
 import { ApiError } from '@/shared/types/common'
 import { errorHandler } from '@/shared/utils/errorHandler'
 
 interface OrderState {
-  orders: Order[]
+  orders: OrderSummary[]
   currentOrder: Order | null
   loading: boolean
   error: ApiError | null
@@ -28,7 +28,7 @@ export const useOrderStore = create<OrderState>((set, get) => ({
   fetchOrders: async (customerId: number) => {
     set({ loading: true, error: null })
     try {
-      const orders = await apiClient.get<Order[]>(endpoints.orders.list(customerId))
+      const orders = await apiClient.get<OrderSummary[]>(endpoints.orders.list(customerId))
       set({ orders, loading: false })
     } catch (error) {
       const apiError = errorHandler.handle(error)
@@ -52,7 +52,7 @@ export const useOrderStore = create<OrderState>((set, get) => ({
     try {
       const order = await apiClient.post<Order>(endpoints.orders.create, request)
       set(state => ({
-        orders: [order, ...state.orders],
+        orders: [toOrderSummary(order), ...state.orders],
         loading: false,
       }))
       return order
@@ -68,7 +68,7 @@ export const useOrderStore = create<OrderState>((set, get) => ({
     try {
       const order = await apiClient.post<Order>(endpoints.orders.confirm(orderId))
       set(state => ({
-        orders: state.orders.map(o => o.id === orderId ? order : o),
+        orders: state.orders.map(o => o.id === orderId ? toOrderSummary(order) : o),
         currentOrder: state.currentOrder?.id === orderId ? order : state.currentOrder,
         loading: false,
       }))
@@ -84,7 +84,7 @@ export const useOrderStore = create<OrderState>((set, get) => ({
     try {
       const order = await apiClient.post<Order>(endpoints.orders.cancel(orderId))
       set(state => ({
-        orders: state.orders.map(o => o.id === orderId ? order : o),
+        orders: state.orders.map(o => o.id === orderId ? toOrderSummary(order) : o),
         currentOrder: state.currentOrder?.id === orderId ? order : state.currentOrder,
         loading: false,
       }))
@@ -27,6 +27,30 @@ export interface Order {
   updatedAt: string
 }
 
+export interface OrderSummary {
+  id: number
+  orderNumber: string
+  customerId: number
+  customerName: string
+  status: OrderStatus
+  totalAmount: number
+  itemCount: number
+  createdAt: string
+  updatedAt: string
+}
+
+export const toOrderSummary = (order: Order): OrderSummary => ({
+  id: order.id,
+  orderNumber: order.orderNumber,
+  customerId: order.customerId,
+  customerName: order.customerName,
+  status: order.status,
+  totalAmount: order.totalAmount,
+  itemCount: order.orderItems.length,
+  createdAt: order.createdAt,
+  updatedAt: order.updatedAt,
+})
+
 export interface CreateOrderRequest {
   customerId: number
   customerName: string